@@ -0,0 +1,506 @@
+package com.testautomation.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import javax.xml.xpath.XPathExpressionException;
+import javax.xml.xpath.XPathFactory;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Generates reflection-free element binding for page objects.
+ *
+ * For every page class (a subclass of BasePage, or any class with @FindBy, @FindBys or @FindAll
+ * fields) a "<Page>_Binder" implementing PageBinder is written next to it. The binder assigns
+ * each annotated field a LazyElement or LazyElementList with the locator spelled out as plain
+ * code, and all binders are registered in META-INF/services for BasePage to load.
+ *
+ * Locators are checked while compiling, so mistakes fail the build instead of the first test
+ * that touches the page:
+ * - exactly one location strategy, or "how" together with "using"
+ * - no empty values, compound class names or invalid tag names
+ * - XPath expressions must compile, CSS selectors must have balanced brackets and quotes
+ * - annotated fields must be WebElement or List&lt;WebElement&gt;
+ *
+ * Classes the generated code cannot name or assign (private or generic classes, private, static
+ * or final element fields) get a warning and no binder; BasePage binds them with PageFactory.
+ *
+ * Runs on the test sources, see the maven-compiler-plugin configuration in pom.xml.
+ */
+@SupportedAnnotationTypes("*")
+public class PageBinderProcessor extends AbstractProcessor {
+
+    private static final String FIND_BY = "org.openqa.selenium.support.FindBy";
+    private static final String FIND_BYS = "org.openqa.selenium.support.FindBys";
+    private static final String FIND_ALL = "org.openqa.selenium.support.FindAll";
+    private static final String CACHE_LOOKUP = "org.openqa.selenium.support.CacheLookup";
+    private static final String BASE_PAGE = "com.testautomation.core.pages.BasePage";
+    private static final String PAGE_BINDER = "com.testautomation.core.pages.PageBinder";
+    private static final String WEB_ELEMENT = "org.openqa.selenium.WebElement";
+    private static final String BINDER_SUFFIX = "_Binder";
+
+    /** @FindBy attribute -> By factory method */
+    private static final Map<String, String> STRATEGIES = new LinkedHashMap<>();
+    /** FindBy.How constant -> @FindBy attribute */
+    private static final Map<String, String> HOW = new LinkedHashMap<>();
+
+    static {
+        STRATEGIES.put("id", "id");
+        STRATEGIES.put("name", "name");
+        STRATEGIES.put("className", "className");
+        STRATEGIES.put("css", "cssSelector");
+        STRATEGIES.put("tagName", "tagName");
+        STRATEGIES.put("linkText", "linkText");
+        STRATEGIES.put("partialLinkText", "partialLinkText");
+        STRATEGIES.put("xpath", "xpath");
+
+        HOW.put("ID", "id");
+        HOW.put("NAME", "name");
+        HOW.put("CLASS_NAME", "className");
+        HOW.put("CSS", "css");
+        HOW.put("TAG_NAME", "tagName");
+        HOW.put("LINK_TEXT", "linkText");
+        HOW.put("PARTIAL_LINK_TEXT", "partialLinkText");
+        HOW.put("XPATH", "xpath");
+    }
+
+    private final Set<String> binders = new TreeSet<>();
+    private Elements elements;
+    private Types types;
+    private Messager messager;
+    private Filer filer;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        this.elements = processingEnv.getElementUtils();
+        this.types = processingEnv.getTypeUtils();
+        this.messager = processingEnv.getMessager();
+        this.filer = processingEnv.getFiler();
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeServiceFile();
+            return false;
+        }
+        List<TypeElement> classes = new ArrayList<>();
+        for (Element root : roundEnv.getRootElements()) {
+            collectClasses(root, classes);
+        }
+        for (TypeElement type : classes) {
+            if (isPage(type) || hasLocatorFields(type)) {
+                generateBinder(type);
+            }
+        }
+        // Other processors may handle the same annotations
+        return false;
+    }
+
+    private void collectClasses(Element element, List<TypeElement> classes) {
+        if (element.getKind() == ElementKind.CLASS) {
+            classes.add((TypeElement) element);
+        }
+        for (Element enclosed : element.getEnclosedElements()) {
+            if (enclosed.getKind().isClass() || enclosed.getKind().isInterface()) {
+                collectClasses(enclosed, classes);
+            }
+        }
+    }
+
+    private boolean isPage(TypeElement type) {
+        TypeElement basePage = elements.getTypeElement(BASE_PAGE);
+        return basePage != null && !type.equals(basePage)
+            && types.isAssignable(types.erasure(type.asType()), types.erasure(basePage.asType()));
+    }
+
+    private boolean hasLocatorFields(TypeElement type) {
+        for (Element enclosed : type.getEnclosedElements()) {
+            if (enclosed.getKind() == ElementKind.FIELD && !locatorAnnotations(enclosed).isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Write the binder of one page class, or report why its fields cannot be bound
+     */
+    private void generateBinder(TypeElement type) {
+        if (!isAccessible(type) || !type.getTypeParameters().isEmpty()) {
+            messager.printMessage(Diagnostic.Kind.WARNING,
+                "No binder generated for private or generic class " + type.getQualifiedName()
+                    + "; its elements are bound by PageFactory", type);
+            return;
+        }
+
+        List<String> assignments = new ArrayList<>();
+        VariableElement unassignable = null;
+        boolean valid = true;
+        for (Element enclosed : type.getEnclosedElements()) {
+            if (enclosed.getKind() != ElementKind.FIELD) {
+                continue;
+            }
+            List<AnnotationMirror> locators = locatorAnnotations(enclosed);
+            if (locators.isEmpty()) {
+                continue;
+            }
+            VariableElement field = (VariableElement) enclosed;
+            String assignment = bindField(field, locators);
+            if (assignment == null) {
+                valid = false;
+            } else if (!isAssignable(field)) {
+                // Locators are still checked, but the class is left to PageFactory
+                if (unassignable == null) {
+                    unassignable = field;
+                }
+            } else {
+                assignments.add(assignment);
+            }
+        }
+        if (!valid) {
+            return;
+        }
+        if (unassignable != null) {
+            messager.printMessage(Diagnostic.Kind.WARNING,
+                "No binder generated for " + type.getQualifiedName() + ": element field '"
+                    + unassignable.getSimpleName() + "' is private, static or final; its elements are bound by PageFactory",
+                unassignable);
+            return;
+        }
+
+        String packageName = elements.getPackageOf(type).getQualifiedName().toString();
+        String binderName = binderSimpleName(type);
+        String pageName = type.getQualifiedName().toString();
+        String qualifiedName = packageName.isEmpty() ? binderName : packageName + "." + binderName;
+        try (Writer writer = filer.createSourceFile(qualifiedName, type).openWriter()) {
+            StringBuilder source = new StringBuilder();
+            if (!packageName.isEmpty()) {
+                source.append("package ").append(packageName).append(";\n\n");
+            }
+            source.append("/**\n")
+                .append(" * Assigns the element fields of ").append(type.getSimpleName())
+                .append(". Generated by PageBinderProcessor, do not edit.\n")
+                .append(" */\n")
+                .append("@javax.annotation.processing.Generated(\"").append(getClass().getName()).append("\")\n")
+                .append("public final class ").append(binderName)
+                .append(" implements ").append(PAGE_BINDER).append("<").append(pageName).append("> {\n\n")
+                .append("    @Override\n")
+                .append("    public Class<").append(pageName).append("> pageType() {\n")
+                .append("        return ").append(pageName).append(".class;\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public void bind(").append(pageName).append(" page, org.openqa.selenium.WebDriver driver) {\n");
+            for (String assignment : assignments) {
+                source.append("        ").append(assignment).append("\n");
+            }
+            source.append("    }\n")
+                .append("}\n");
+            writer.write(source.toString());
+            binders.add(qualifiedName);
+        } catch (IOException e) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "Failed to write " + qualifiedName + ": " + e, type);
+        }
+    }
+
+    /**
+     * @return the assignment statement for one field, or null after reporting an error
+     */
+    private String bindField(VariableElement field, List<AnnotationMirror> locators) {
+        if (locators.size() > 1) {
+            return error(field, locators.get(1), "Use only one of @FindBy, @FindBys and @FindAll");
+        }
+        String elementClass;
+        TypeMirror webElement = elements.getTypeElement(WEB_ELEMENT).asType();
+        TypeMirror fieldType = field.asType();
+        if (types.isSameType(fieldType, webElement)) {
+            elementClass = "com.testautomation.core.pages.LazyElement";
+        } else if (isWebElementList(fieldType, webElement)) {
+            elementClass = "com.testautomation.core.pages.LazyElementList";
+        } else {
+            return error(field, locators.get(0), "Element field '" + field.getSimpleName()
+                + "' must be a WebElement or List<WebElement>");
+        }
+
+        AnnotationMirror locator = locators.get(0);
+        String annotation = ((TypeElement) locator.getAnnotationType().asElement()).getQualifiedName().toString();
+        String by;
+        if (FIND_BY.equals(annotation)) {
+            by = locatorExpression(field, locator);
+        } else {
+            List<String> parts = new ArrayList<>();
+            for (AnnotationValue value : arrayValue(locator, "value")) {
+                String part = locatorExpression(field, (AnnotationMirror) value.getValue());
+                if (part == null) {
+                    return null;
+                }
+                parts.add(part);
+            }
+            if (parts.isEmpty()) {
+                return error(field, locator, "@" + locator.getAnnotationType().asElement().getSimpleName()
+                    + " on '" + field.getSimpleName() + "' needs at least one @FindBy");
+            }
+            by = (FIND_BYS.equals(annotation)
+                ? "new org.openqa.selenium.support.pagefactory.ByChained("
+                : "new org.openqa.selenium.support.pagefactory.ByAll(") + String.join(", ", parts) + ")";
+        }
+        if (by == null) {
+            return null;
+        }
+        return "page." + field.getSimpleName() + " = new " + elementClass + "(driver, " + by + ", "
+            + hasAnnotation(field, CACHE_LOOKUP) + ");";
+    }
+
+    /**
+     * Translate one @FindBy into a By expression, the same way PageFactory's FindBy.Builder does
+     * @return the expression, or null after reporting an error
+     */
+    private String locatorExpression(VariableElement field, AnnotationMirror findBy) {
+        Map<String, AnnotationValue> values = new LinkedHashMap<>();
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+            : elements.getElementValuesWithDefaults(findBy).entrySet()) {
+            values.put(entry.getKey().getSimpleName().toString(), entry.getValue());
+        }
+        String how = ((VariableElement) values.get("how").getValue()).getSimpleName().toString();
+        String using = (String) values.get("using").getValue();
+
+        List<String> set = new ArrayList<>();
+        for (String attribute : STRATEGIES.keySet()) {
+            if (!((String) values.get(attribute).getValue()).isEmpty()) {
+                set.add(attribute);
+            }
+        }
+
+        String attribute;
+        String value;
+        if (!"UNSET".equals(how)) {
+            if (!set.isEmpty()) {
+                return error(field, findBy, "'how' and 'using' cannot be combined with " + set);
+            }
+            if (using.isEmpty()) {
+                return error(field, findBy, "'using' is required together with 'how'");
+            }
+            if ("ID_OR_NAME".equals(how)) {
+                return "new org.openqa.selenium.support.pagefactory.ByIdOrName("
+                    + elements.getConstantExpression(using) + ")";
+            }
+            attribute = HOW.get(how);
+            value = using;
+        } else if (!using.isEmpty()) {
+            return error(field, findBy, "'using' requires 'how'");
+        } else if (set.size() > 1) {
+            return error(field, findBy, "Specify at most one location strategy, found " + set);
+        } else if (set.isEmpty()) {
+            // No strategy: PageFactory matches the field name against id or name
+            return "new org.openqa.selenium.support.pagefactory.ByIdOrName(\"" + field.getSimpleName() + "\")";
+        } else {
+            attribute = set.get(0);
+            value = (String) values.get(attribute).getValue();
+        }
+
+        String problem = validate(attribute, value);
+        if (problem != null) {
+            return error(field, findBy, "Invalid locator on '" + field.getSimpleName() + "': " + problem);
+        }
+        return "org.openqa.selenium.By." + STRATEGIES.get(attribute) + "(" + elements.getConstantExpression(value) + ")";
+    }
+
+    /**
+     * @return a description of what is wrong with the locator value, or null if it looks valid
+     */
+    static String validate(String attribute, String value) {
+        if (value.trim().isEmpty()) {
+            return attribute + " must not be blank";
+        }
+        switch (attribute) {
+            case "className":
+                return value.trim().matches(".*\\s.*")
+                    ? "compound class name '" + value + "', use css = \"." + value.trim().replaceAll("\\s+", ".") + "\""
+                    : null;
+            case "tagName":
+                return value.matches("[A-Za-z][A-Za-z0-9-]*|\\*") ? null : "'" + value + "' is not a tag name";
+            case "xpath":
+                try {
+                    XPathFactory.newInstance().newXPath().compile(value);
+                    return null;
+                } catch (XPathExpressionException e) {
+                    Throwable cause = e.getCause() != null ? e.getCause() : e;
+                    return "XPath '" + value + "' does not compile: " + cause.getMessage();
+                }
+            case "css":
+                return validateCss(value);
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Structural check of a CSS selector: closed quotes, balanced brackets and parentheses,
+     * no dangling combinator
+     */
+    static String validateCss(String selector) {
+        StringBuilder open = new StringBuilder();
+        char quote = 0;
+        for (int i = 0; i < selector.length(); i++) {
+            char c = selector.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '"' || c == '\'') {
+                quote = c;
+            } else if (c == '[' || c == '(') {
+                open.append(c);
+            } else if (c == ']' || c == ')') {
+                char expected = c == ']' ? '[' : '(';
+                if (open.length() == 0 || open.charAt(open.length() - 1) != expected) {
+                    return "unbalanced '" + c + "' in CSS selector '" + selector + "'";
+                }
+                open.setLength(open.length() - 1);
+            }
+        }
+        if (quote != 0) {
+            return "unclosed quote in CSS selector '" + selector + "'";
+        }
+        if (open.length() > 0) {
+            return "unclosed '" + open.charAt(open.length() - 1) + "' in CSS selector '" + selector + "'";
+        }
+        String trimmed = selector.trim();
+        if (trimmed.matches("^[>+~,].*") || trimmed.matches(".*[>+~,]$")) {
+            return "dangling combinator in CSS selector '" + selector + "'";
+        }
+        return null;
+    }
+
+    private boolean isWebElementList(TypeMirror type, TypeMirror webElement) {
+        if (type.getKind() != TypeKind.DECLARED) {
+            return false;
+        }
+        DeclaredType declared = (DeclaredType) type;
+        TypeElement list = elements.getTypeElement("java.util.List");
+        return types.isSameType(types.erasure(declared), types.erasure(list.asType()))
+            && declared.getTypeArguments().size() == 1
+            && types.isSameType(declared.getTypeArguments().get(0), webElement);
+    }
+
+    private List<AnnotationMirror> locatorAnnotations(Element field) {
+        List<AnnotationMirror> found = new ArrayList<>();
+        for (AnnotationMirror mirror : field.getAnnotationMirrors()) {
+            String name = ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().toString();
+            if (FIND_BY.equals(name) || FIND_BYS.equals(name) || FIND_ALL.equals(name)) {
+                found.add(mirror);
+            }
+        }
+        return found;
+    }
+
+    private boolean hasAnnotation(Element element, String annotation) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            if (((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(annotation)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<? extends AnnotationValue> arrayValue(AnnotationMirror mirror, String name) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+            : elements.getElementValuesWithDefaults(mirror).entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(name)) {
+                return (List<? extends AnnotationValue>) entry.getValue().getValue();
+            }
+        }
+        return new ArrayList<>();
+    }
+
+    /**
+     * The binder must be able to assign the field of a page instance from its package
+     */
+    private boolean isAssignable(VariableElement field) {
+        Set<Modifier> modifiers = field.getModifiers();
+        return !modifiers.contains(Modifier.PRIVATE) && !modifiers.contains(Modifier.STATIC)
+            && !modifiers.contains(Modifier.FINAL);
+    }
+
+    /**
+     * The binder must be able to name the page class from its package
+     */
+    private boolean isAccessible(TypeElement type) {
+        for (Element element = type; element instanceof TypeElement; element = element.getEnclosingElement()) {
+            if (element.getModifiers().contains(Modifier.PRIVATE)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * "ButtonsPage_Binder", or "Outer_Inner_Binder" for nested classes
+     */
+    private String binderSimpleName(TypeElement type) {
+        String name = type.getSimpleName().toString();
+        for (Element outer = type.getEnclosingElement(); outer instanceof TypeElement;
+             outer = outer.getEnclosingElement()) {
+            name = outer.getSimpleName() + "_" + name;
+        }
+        return name + BINDER_SUFFIX;
+    }
+
+    private String error(Element element, AnnotationMirror annotation, String message) {
+        messager.printMessage(Diagnostic.Kind.ERROR, message, element, annotation);
+        return null;
+    }
+
+    private void writeServiceFile() {
+        if (binders.isEmpty()) {
+            return;
+        }
+        try {
+            FileObject file = filer.createResource(StandardLocation.CLASS_OUTPUT, "",
+                "META-INF/services/" + PAGE_BINDER);
+            try (Writer writer = file.openWriter()) {
+                for (String binder : binders) {
+                    writer.write(binder + "\n");
+                }
+            }
+        } catch (IOException e) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "Failed to register page binders: " + e);
+        }
+    }
+}
@@ -4,7 +4,11 @@ import com.testautomation.core.exceptions.ConfigurationException;
 import com.testautomation.utils.common.LoggerUtil;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.TreeMap;
 
 public class ConfigReader {
     private static Properties properties;
@@ -89,9 +93,13 @@ public class ConfigReader {
         }
     }
 
+    /**
+     * Get a property; a system property of the same name (-Dkey=value) takes precedence
+     * over config.properties
+     */
     public static String getProperty(String key) {
         validateInitialization();
-        String value = properties.getProperty(key);
+        String value = System.getProperty(key, properties.getProperty(key));
         if (value == null) {
             throw new ConfigurationException("ConfigReader", 
                 "Property not found: " + key);
@@ -102,9 +110,9 @@ public class ConfigReader {
     public static String getProperty(String key, String defaultValue) {
         if (!isInitialized()) {
             LoggerUtil.warning("Configuration not initialized, using default value for: " + key);
-            return defaultValue;
+            return System.getProperty(key, defaultValue);
         }
-        return properties.getProperty(key, defaultValue);
+        return System.getProperty(key, properties.getProperty(key, defaultValue));
     }
 
     public static int getIntProperty(String key, int defaultValue) {
@@ -118,6 +126,51 @@ public class ConfigReader {
         }
     }
 
+    public static double getDoubleProperty(String key, double defaultValue) {
+        String value = getProperty(key, String.valueOf(defaultValue));
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            LoggerUtil.warning("Invalid decimal value for property '" + key + "': " + value + 
+                ". Using default: " + defaultValue);
+            return defaultValue;
+        }
+    }
+
+    /**
+     * Read a comma separated property; empty if it is not set
+     */
+    public static List<String> getListProperty(String key) {
+        List<String> values = new ArrayList<>();
+        for (String value : getProperty(key, "").split(",")) {
+            if (!value.trim().isEmpty()) {
+                values.add(value.trim());
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Read every property starting with a prefix, system properties taking precedence
+     * @return the values keyed by the rest of the property name
+     */
+    public static Map<String, String> getPropertiesWithPrefix(String prefix) {
+        Map<String, String> values = new TreeMap<>();
+        if (isInitialized()) {
+            for (String key : properties.stringPropertyNames()) {
+                if (key.startsWith(prefix) && key.length() > prefix.length()) {
+                    values.put(key.substring(prefix.length()), properties.getProperty(key).trim());
+                }
+            }
+        }
+        for (String key : System.getProperties().stringPropertyNames()) {
+            if (key.startsWith(prefix) && key.length() > prefix.length()) {
+                values.put(key.substring(prefix.length()), System.getProperty(key).trim());
+            }
+        }
+        return values;
+    }
+
     public static boolean getBooleanProperty(String key, boolean defaultValue) {
         String value = getProperty(key, String.valueOf(defaultValue));
         if (value == null) {
@@ -134,22 +187,100 @@ public class ConfigReader {
         return getProperty("browser.default", "chrome");
     }
 
+    public static int getBrowserWidth() {
+        return getIntProperty("browser.width", 1920);
+    }
+
+    public static int getBrowserHeight() {
+        return getIntProperty("browser.height", 1080);
+    }
+
+    public static String getBrowserProfile() {
+        return getProperty("browser.profile", "default");
+    }
+
     public static boolean isHeadless() {
         return getBooleanProperty("browser.headless", false);
     }
 
+    /**
+     * Browser mode (headed, headless, headless-shell); defaults to browser.headless when not set
+     */
+    public static String getBrowserMode() {
+        return getProperty("browser.mode", isHeadless() ? "headless" : "headed");
+    }
+
+    public static String getHeadlessShellPath() {
+        return getProperty("browser.headlessShell.path", "");
+    }
+
+    public static int getRendererProcessLimit() {
+        return getIntProperty("browser.lowMemory.rendererProcessLimit", 2);
+    }
+
     public static int getImplicitWait() {
-        return getIntProperty("timeout.implicit", 20);
+        return getIntProperty("timeout.implicit", 0);
     }
 
     public static int getExplicitWait() {
         return getIntProperty("timeout.explicit", 20);
     }
 
+    /**
+     * Timeout of a WaitEngine condition kind, e.g. "visible" or "pageReady"
+     */
+    public static int getWaitTimeoutSeconds(String condition) {
+        return getIntProperty("timeout.wait." + condition, getExplicitWait());
+    }
+
+    public static boolean isElementCacheEnabled() {
+        return getBooleanProperty("page.elementCache.enabled", false);
+    }
+
+    public static boolean isGeneratedPageBindingEnabled() {
+        return getBooleanProperty("page.binding.generated", false);
+    }
+
+    public static String getWaitMode() {
+        return getProperty("wait.mode", "polling");
+    }
+
+    public static boolean isAdaptivePollingEnabled() {
+        return getBooleanProperty("wait.polling.adaptive.enabled", false);
+    }
+
+    public static int getPollingInitialMillis() {
+        return getIntProperty("wait.polling.initialMillis", 10);
+    }
+
+    public static int getPollingMaxMillis() {
+        return getIntProperty("wait.polling.maxMillis", 500);
+    }
+
+    public static double getPollingMultiplier() {
+        return getDoubleProperty("wait.polling.multiplier", 2.0);
+    }
+
+    public static boolean isPollingLearningEnabled() {
+        return getBooleanProperty("wait.polling.learning.enabled", false);
+    }
+
     public static int getPageLoadTimeout() {
         return getIntProperty("timeout.pageLoad", 60);
     }
 
+    public static String getPageLoadStrategy() {
+        return getProperty("browser.pageLoadStrategy", "normal");
+    }
+
+    public static String getReadinessProbe() {
+        return getProperty("page.readiness.probe", "dom");
+    }
+
+    public static int getReadinessNetworkIdleMillis() {
+        return getIntProperty("page.readiness.networkIdleMillis", 500);
+    }
+
     public static boolean isScreenshotEnabled() {
         return getBooleanProperty("screenshot.enabled", true);
     }
@@ -166,6 +297,155 @@ public class ConfigReader {
         return getIntProperty("parallel.threadCount", 4);
     }
 
+    public static boolean isDriverPoolEnabled() {
+        return getBooleanProperty("driver.pool.enabled", false);
+    }
+
+    public static int getDriverPoolMinSize() {
+        return getIntProperty("driver.pool.minSize", 0);
+    }
+
+    public static int getDriverPoolMaxSize() {
+        return getIntProperty("driver.pool.maxSize", getParallelThreadCount());
+    }
+
+    public static int getDriverPoolLeaseTimeoutSeconds() {
+        return getIntProperty("driver.pool.leaseTimeoutSeconds", 120);
+    }
+
+    public static int getDriverPoolIdleTimeoutSeconds() {
+        return getIntProperty("driver.pool.idleTimeoutSeconds", 300);
+    }
+
+    public static boolean isDriverPreWarmEnabled() {
+        return getBooleanProperty("driver.prewarm.enabled", false);
+    }
+
+    public static boolean isDriverServiceShared() {
+        return getBooleanProperty("driver.service.shared", false);
+    }
+
+    public static int getDriverServiceSessionsPerService() {
+        return getIntProperty("driver.service.sessionsPerService", 0);
+    }
+
+    public static String getDriverTeardownMode() {
+        return getProperty("driver.teardown.mode", isDriverPoolEnabled() ? "reset" : "quit");
+    }
+
+    public static int getDriverRecycleMaxLeases() {
+        return getIntProperty("driver.recycle.maxLeases", 0);
+    }
+
+    public static int getDriverRecycleMaxAgeMinutes() {
+        return getIntProperty("driver.recycle.maxAgeMinutes", 0);
+    }
+
+    public static int getDriverRecycleMaxRssMb() {
+        return getIntProperty("driver.recycle.maxRssMb", 0);
+    }
+
+    public static boolean isDriverReaperEnabled() {
+        return getBooleanProperty("driver.reaper.enabled", false);
+    }
+
+    public static int getDriverReaperThreads() {
+        return getIntProperty("driver.reaper.threads", 2);
+    }
+
+    public static int getDriverReaperMaxPending() {
+        return getIntProperty("driver.reaper.maxPending", 4);
+    }
+
+    public static int getDriverReaperQuitTimeoutSeconds() {
+        return getIntProperty("driver.reaper.quitTimeoutSeconds", 30);
+    }
+
+    public static int getDriverReaperDrainTimeoutSeconds() {
+        return getIntProperty("driver.reaper.drainTimeoutSeconds", 60);
+    }
+
+    public static boolean isDriverAdmissionEnabled() {
+        return getBooleanProperty("driver.admission.enabled", false);
+    }
+
+    public static int getDriverAdmissionMemoryReserveMb() {
+        return getIntProperty("driver.admission.memoryReserveMb", 1024);
+    }
+
+    public static int getDriverAdmissionSessionMb() {
+        return getIntProperty("driver.admission.sessionMb", 600);
+    }
+
+    public static double getDriverAdmissionMaxLoadPerCpu() {
+        return getDoubleProperty("driver.admission.maxLoadPerCpu", 0);
+    }
+
+    public static int getDriverAdmissionTimeoutSeconds() {
+        return getIntProperty("driver.admission.timeoutSeconds", 30);
+    }
+
+    public static boolean isDriverCircuitBreakerEnabled() {
+        return getBooleanProperty("driver.circuitBreaker.enabled", false);
+    }
+
+    public static int getDriverCircuitBreakerFailureThreshold() {
+        return getIntProperty("driver.circuitBreaker.failureThreshold", 3);
+    }
+
+    public static int getDriverCircuitBreakerBaseBackoffSeconds() {
+        return getIntProperty("driver.circuitBreaker.baseBackoffSeconds", 15);
+    }
+
+    public static int getDriverCircuitBreakerMaxBackoffSeconds() {
+        return getIntProperty("driver.circuitBreaker.maxBackoffSeconds", 240);
+    }
+
+    public static boolean isBrowserContextsEnabled() {
+        return getBooleanProperty("driver.contexts.enabled", false);
+    }
+
+    public static int getBrowserContextsPerBrowser() {
+        return getIntProperty("driver.contexts.perBrowser", 12);
+    }
+
+    public static boolean isDriverBinaryCacheEnabled() {
+        return getBooleanProperty("driver.binaryCache.enabled", false);
+    }
+
+    public static String getDriverBinaryCacheFile() {
+        return getProperty("driver.binaryCache.file",
+            System.getProperty("user.home") + "/.cache/testautomation/driver-binaries.properties");
+    }
+
+    public static boolean isDriverLazyEnabled() {
+        return getBooleanProperty("driver.lazy.enabled", false);
+    }
+
+    public static boolean isResourceSamplerEnabled() {
+        return getBooleanProperty("metrics.resourceSampler.enabled", false);
+    }
+
+    public static int getResourceSamplerIntervalMillis() {
+        return getIntProperty("metrics.resourceSampler.intervalMillis", 250);
+    }
+
+    public static String getMetricsDirectory() {
+        return getProperty("metrics.directory", "target/metrics");
+    }
+
+    public static boolean isNetworkBlocklistEnabled() {
+        return getBooleanProperty("network.blocklist.enabled", false);
+    }
+
+    public static List<String> getNetworkBlocklistPatterns() {
+        return getListProperty("network.blocklist.patterns");
+    }
+
+    public static boolean isDriverOrphanSweepEnabled() {
+        return getBooleanProperty("driver.orphanSweep.enabled", false);
+    }
+
     /**
      * Validate all required configuration properties
      */
@@ -0,0 +1,248 @@
+package com.testautomation.core.driver;
+
+import com.testautomation.core.config.ConfigReader;
+import com.testautomation.core.exceptions.WebDriverException;
+import com.testautomation.utils.common.LoggerUtil;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.devtools.CdpEndpointFinder;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.Connection;
+import org.openqa.selenium.json.JsonInput;
+import org.openqa.selenium.remote.http.ClientConfig;
+import org.openqa.selenium.remote.http.HttpClient;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Runs many isolated test sessions inside a few Chrome processes.
+ *
+ * Each host is a regular Chrome session. For every test a new CDP browser context is created in
+ * a host (Target.createBrowserContext, which isolates cookies, storage and cache like an
+ * incognito profile) with one tab in it. A ChromeDriver session is then attached to the host
+ * through its debuggerAddress and switched to that tab. Quitting the session disposes the context.
+ *
+ * Only storage is isolated, not the WebDriver view of the browser: the attached session still
+ * lists every tab of the host in getWindowHandles(), including the contexts of other tests.
+ * Tests that open, switch or close windows must run with driver.contexts.enabled=false, which
+ * is the default. Context sessions are not pooled and are never force-killed by the
+ * DriverReaper, since their browser process is the shared host.
+ *
+ * Hosts are launched on demand and carry up to driver.contexts.perBrowser contexts each.
+ * A host that no longer answers over CDP, e.g. after a crash, is discarded when a context fails
+ * to open in it, so the next context gets a new host.
+ * Firefox and Edge sessions are not affected and keep one browser per session.
+ */
+public class BrowserContextManager {
+
+    private static final BrowserContextManager INSTANCE = new BrowserContextManager();
+    private static final Duration CDP_TIMEOUT = Duration.ofSeconds(30);
+
+    private final List<Host> hosts = new ArrayList<>();
+    private final Map<WebDriver, OpenContext> contexts = new ConcurrentHashMap<>();
+    private final AtomicInteger contextsOpened = new AtomicInteger(0);
+
+    private BrowserContextManager() {
+    }
+
+    public static BrowserContextManager getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Open a new isolated context and return a session attached to it
+     * @param hostLauncher launches a new host browser when every host is full
+     * @param attacher creates a ChromeDriver session attached to the given debuggerAddress
+     * @return a session scoped to the new context
+     */
+    public WebDriver openContext(Supplier<WebDriver> hostLauncher, Function<String, WebDriver> attacher) {
+        Host host = acquireHost(hostLauncher);
+        String contextId = null;
+        try {
+            contextId = (String) host.send("Target.createBrowserContext", Map.of()).get("browserContextId");
+            String targetId = (String) host.send("Target.createTarget",
+                Map.of("url", "about:blank", "browserContextId", contextId)).get("targetId");
+
+            WebDriver session = attacher.apply(host.debuggerAddress);
+            session.switchTo().window(targetId);
+            NetworkBlocklist.apply(session);
+
+            contexts.put(session, new OpenContext(host, contextId));
+            contextsOpened.incrementAndGet();
+            return session;
+        } catch (RuntimeException e) {
+            if (contextId != null) {
+                disposeQuietly(host, contextId);
+            }
+            host.release();
+            if (!host.isAlive()) {
+                discardHost(host);
+            }
+            throw new WebDriverException("BrowserContextManager", "Failed to open browser context", e);
+        }
+    }
+
+    /**
+     * Check whether a session is attached to a browser context
+     */
+    public boolean isContext(WebDriver session) {
+        return session != null && contexts.containsKey(session);
+    }
+
+    /**
+     * Dispose the browser context of a session that has quit; does nothing for other sessions
+     */
+    public void release(WebDriver session) {
+        OpenContext context = session == null ? null : contexts.remove(session);
+        if (context != null) {
+            disposeQuietly(context.host, context.contextId);
+            context.host.release();
+        }
+    }
+
+    private synchronized Host acquireHost(Supplier<WebDriver> hostLauncher) {
+        int perBrowser = Math.max(1, ConfigReader.getBrowserContextsPerBrowser());
+        for (Host host : hosts) {
+            if (host.activeContexts.get() < perBrowser) {
+                host.activeContexts.incrementAndGet();
+                return host;
+            }
+        }
+        Host host = new Host(hostLauncher.get());
+        host.activeContexts.incrementAndGet();
+        hosts.add(host);
+        LoggerUtil.info("Started browser context host #" + hosts.size() + " at " + host.debuggerAddress);
+        return host;
+    }
+
+    /**
+     * Stop handing out a host that no longer answers and quit what is left of its browser
+     */
+    private void discardHost(Host host) {
+        synchronized (this) {
+            if (!hosts.remove(host)) {
+                return;
+            }
+        }
+        LoggerUtil.warning("Browser context host at " + host.debuggerAddress + " is not responding, discarding it");
+        host.close();
+        try {
+            WebDriverManager.quitNow(host.driver);
+        } catch (Exception e) {
+            // Browser already gone
+        }
+    }
+
+    private void disposeQuietly(Host host, String contextId) {
+        try {
+            host.send("Target.disposeBrowserContext", Map.of("browserContextId", contextId));
+        } catch (Exception e) {
+            LoggerUtil.warning("Failed to dispose browser context " + contextId + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Quit every host browser; called from the JVM shutdown hook of WebDriverManager
+     */
+    public synchronized void shutdown() {
+        for (Host host : hosts) {
+            host.close();
+            try {
+                WebDriverManager.quitNow(host.driver);
+            } catch (Exception e) {
+                LoggerUtil.error("Failed to quit browser context host", e);
+            }
+        }
+        if (!hosts.isEmpty()) {
+            LoggerUtil.info("Stopped " + hosts.size() + " browser context host(s) after "
+                + contextsOpened.get() + " context(s)");
+        }
+        hosts.clear();
+        contexts.clear();
+    }
+
+    /**
+     * A host browser with its own browser-level CDP connection
+     */
+    private static final class Host {
+        private final WebDriver driver;
+        private final String debuggerAddress;
+        private final Connection connection;
+        private final AtomicInteger activeContexts = new AtomicInteger(0);
+
+        @SuppressWarnings("unchecked")
+        private Host(WebDriver driver) {
+            this.driver = driver;
+            Object chromeOptions = ((HasCapabilities) driver).getCapabilities().getCapability(ChromeOptions.CAPABILITY);
+            Object address = chromeOptions instanceof Map ? ((Map<String, Object>) chromeOptions).get("debuggerAddress") : null;
+            if (!(address instanceof String)) {
+                throw new WebDriverException("BrowserContextManager", "Host browser did not report a debuggerAddress");
+            }
+            this.debuggerAddress = (String) address;
+
+            HttpClient.Factory factory = HttpClient.Factory.createDefault();
+            URI endpoint = CdpEndpointFinder.getCdpEndPoint(
+                    CdpEndpointFinder.getHttpClient(factory, URI.create("http://" + debuggerAddress)))
+                .orElseThrow(() -> new WebDriverException("BrowserContextManager",
+                    "No CDP endpoint found at " + debuggerAddress));
+            this.connection = new Connection(factory.createClient(ClientConfig.defaultConfig().baseUri(endpoint)),
+                endpoint.toString());
+        }
+
+        /**
+         * Send a command to the browser target, outside of any page session
+         */
+        @SuppressWarnings("unchecked")
+        private Map<String, Object> send(String method, Map<String, Object> params) {
+            return connection.sendAndWait(null,
+                new Command<>(method, params, (JsonInput input) -> (Map<String, Object>) input.read(Map.class)),
+                CDP_TIMEOUT);
+        }
+
+        private void release() {
+            activeContexts.decrementAndGet();
+        }
+
+        /**
+         * Check whether the browser still answers on its CDP connection
+         */
+        private boolean isAlive() {
+            try {
+                send("Browser.getVersion", Map.of());
+                return true;
+            } catch (Exception e) {
+                return false;
+            }
+        }
+
+        private void close() {
+            try {
+                connection.close();
+            } catch (Exception e) {
+                // Browser already gone
+            }
+        }
+    }
+
+    /**
+     * The host and browser context a session is attached to
+     */
+    private static final class OpenContext {
+        private final Host host;
+        private final String contextId;
+
+        private OpenContext(Host host, String contextId) {
+            this.host = host;
+            this.contextId = contextId;
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.testautomation.core.driver;
+
+import com.testautomation.core.config.ConfigReader;
+import com.testautomation.enums.BrowserType;
+import com.testautomation.utils.common.LoggerUtil;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.ChromiumNetworkConditions;
+import org.openqa.selenium.chromium.ChromiumOptions;
+import org.openqa.selenium.chromium.HasNetworkConditions;
+import org.openqa.selenium.firefox.FirefoxOptions;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A named set of browser option tweaks selected with browser.profile.
+ *
+ * Every setting is read from profile.[name].* in config.properties:
+ * - window.maximized: start maximized, otherwise use window.width/window.height
+ *   (browser.width/browser.height when not set)
+ * - cache.enabled: false turns the browser's HTTP cache off
+ * - throttle.latencyMs, throttle.downloadKbps, throttle.uploadKbps: network emulation,
+ *   Chrome and Edge only
+ * - [browser].arguments: comma separated command line arguments, e.g. profile.fast-ci.edge.arguments
+ * - [browser].pref.[name]: a browser preference (Chrome/Edge prefs, Firefox about:config)
+ *
+ * A profile without any settings, such as the built-in "default", keeps the framework defaults.
+ */
+public final class BrowserOptionProfile {
+
+    private final String name;
+
+    private BrowserOptionProfile(String name) {
+        this.name = name;
+    }
+
+    /**
+     * The profile selected by browser.profile
+     */
+    public static BrowserOptionProfile fromConfig() {
+        return new BrowserOptionProfile(ConfigReader.getBrowserProfile());
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Apply window size, cache, arguments and prefs to Chrome or Edge options
+     */
+    public void applyTo(ChromiumOptions<?> options, BrowserType browserType, boolean headless) {
+        if (isMaximized(headless)) {
+            options.addArguments("--start-maximized");
+        } else {
+            options.addArguments("--window-size=" + getWindowWidth() + "," + getWindowHeight());
+        }
+        if (!isCacheEnabled()) {
+            options.addArguments("--disk-cache-size=1", "--media-cache-size=1");
+        }
+        List<String> arguments = getArguments(browserType);
+        if (!arguments.isEmpty()) {
+            options.addArguments(arguments);
+        }
+        Map<String, Object> prefs = getPrefs(browserType);
+        if (!prefs.isEmpty()) {
+            options.setExperimentalOption("prefs", prefs);
+        }
+    }
+
+    /**
+     * Apply window size, cache, arguments and prefs to Firefox options
+     */
+    public void applyTo(FirefoxOptions options, boolean headless) {
+        if (!isMaximized(headless)) {
+            options.addArguments("--width=" + getWindowWidth(), "--height=" + getWindowHeight());
+        }
+        if (!isCacheEnabled()) {
+            options.addPreference("browser.cache.disk.enable", false);
+            options.addPreference("browser.cache.memory.enable", false);
+        }
+        List<String> arguments = getArguments(BrowserType.FIREFOX);
+        if (!arguments.isEmpty()) {
+            options.addArguments(arguments);
+        }
+        getPrefs(BrowserType.FIREFOX).forEach(options::addPreference);
+    }
+
+    /**
+     * Apply network throttling to a new session; Firefox and Safari sessions are left unthrottled
+     */
+    public void applyNetworkConditions(WebDriver session) {
+        int latencyMs = ConfigReader.getIntProperty(key("throttle.latencyMs"), 0);
+        int downloadKbps = ConfigReader.getIntProperty(key("throttle.downloadKbps"), 0);
+        int uploadKbps = ConfigReader.getIntProperty(key("throttle.uploadKbps"), 0);
+        if (latencyMs <= 0 && downloadKbps <= 0 && uploadKbps <= 0) {
+            return;
+        }
+        if (!(session instanceof HasNetworkConditions)) {
+            LoggerUtil.warning("Profile " + name + " defines throttling, which is only supported by Chrome and Edge");
+            return;
+        }
+        ChromiumNetworkConditions conditions = new ChromiumNetworkConditions();
+        conditions.setLatency(Duration.ofMillis(Math.max(0, latencyMs)));
+        // -1 means unlimited
+        conditions.setDownloadThroughput(downloadKbps > 0 ? downloadKbps : -1);
+        conditions.setUploadThroughput(uploadKbps > 0 ? uploadKbps : -1);
+        ((HasNetworkConditions) session).setNetworkConditions(conditions);
+    }
+
+    private boolean isMaximized(boolean headless) {
+        // A headless window cannot be maximized and would keep the 800x600 default
+        return !headless && ConfigReader.getBooleanProperty(key("window.maximized"), true);
+    }
+
+    private int getWindowWidth() {
+        return ConfigReader.getIntProperty(key("window.width"), ConfigReader.getBrowserWidth());
+    }
+
+    private int getWindowHeight() {
+        return ConfigReader.getIntProperty(key("window.height"), ConfigReader.getBrowserHeight());
+    }
+
+    private boolean isCacheEnabled() {
+        return ConfigReader.getBooleanProperty(key("cache.enabled"), true);
+    }
+
+    private List<String> getArguments(BrowserType browserType) {
+        return ConfigReader.getListProperty(key(browserType.getValue() + ".arguments"));
+    }
+
+    private Map<String, Object> getPrefs(BrowserType browserType) {
+        Map<String, Object> prefs = new HashMap<>();
+        ConfigReader.getPropertiesWithPrefix(key(browserType.getValue() + ".pref."))
+            .forEach((pref, value) -> prefs.put(pref, parsePrefValue(value)));
+        return prefs;
+    }
+
+    /**
+     * Booleans and integers keep their type, browsers ignore prefs of the wrong type
+     */
+    private static Object parsePrefValue(String value) {
+        if ("true".equalsIgnoreCase(value) || "false".equalsIgnoreCase(value)) {
+            return Boolean.parseBoolean(value);
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            return value;
+        }
+    }
+
+    private String key(String setting) {
+        return "profile." + name + "." + setting;
+    }
+}
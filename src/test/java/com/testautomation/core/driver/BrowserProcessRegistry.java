@@ -0,0 +1,187 @@
+package com.testautomation.core.driver;
+
+import com.testautomation.utils.common.LoggerUtil;
+import org.openqa.selenium.WebDriver;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracks every browser and driver process the framework spawns so none outlive the run.
+ *
+ * Every process is tagged with the owning JVM (PID and start time):
+ * - driver services get the TESTAUTOMATION_OWNER environment variable, which the browsers
+ *   they launch inherit
+ * - Chromium browsers also get a --testautomation-owner= command line switch
+ *
+ * Registered processes are killed from the WebDriverManager shutdown hook after the graceful
+ * quit, together with anything else carrying this JVM's tag. {@link #sweepOrphans()} runs
+ * once at startup and kills tagged processes whose owning JVM is no longer alive, which
+ * cleans up after crashed or killed runs without touching runs still in progress.
+ */
+public class BrowserProcessRegistry {
+
+    public static final String OWNER_ENVIRONMENT_VARIABLE = "TESTAUTOMATION_OWNER";
+    private static final String OWNER_SWITCH = "--testautomation-owner=";
+
+    private static final BrowserProcessRegistry INSTANCE = new BrowserProcessRegistry();
+
+    private final String ownerToken;
+    private final Map<WebDriver, List<ProcessHandle>> sessionProcesses = new ConcurrentHashMap<>();
+
+    private BrowserProcessRegistry() {
+        ProcessHandle self = ProcessHandle.current();
+        long startMillis = self.info().startInstant().map(Instant::toEpochMilli).orElse(0L);
+        this.ownerToken = self.pid() + "-" + startMillis;
+    }
+
+    public static BrowserProcessRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Command line switch that tags Chromium browser processes with this JVM
+     */
+    public String getOwnerSwitch() {
+        return OWNER_SWITCH + ownerToken;
+    }
+
+    /**
+     * Environment that tags driver services, and the browsers they launch, with this JVM
+     */
+    public Map<String, String> getOwnerEnvironment() {
+        return Map.of(OWNER_ENVIRONMENT_VARIABLE, ownerToken);
+    }
+
+    /**
+     * Record the browser process of a new session and the driver process that launched it
+     */
+    public void register(WebDriver session) {
+        Optional<ProcessHandle> browser = BrowserProcesses.findBrowserPid(session).flatMap(ProcessHandle::of);
+        if (browser.isEmpty()) {
+            return;
+        }
+        List<ProcessHandle> processes = new ArrayList<>();
+        processes.add(browser.get());
+        browser.get().parent()
+            .filter(parent -> isOwned(parent.pid(), ownerToken))
+            .filter(parent -> !DriverServiceRegistry.getInstance().isShared(session))
+            .ifPresent(processes::add);
+        sessionProcesses.put(session, processes);
+    }
+
+    /**
+     * Forget the processes of a session that has quit
+     */
+    public void unregister(WebDriver session) {
+        if (session != null) {
+            sessionProcesses.remove(session);
+        }
+    }
+
+    /**
+     * Kill every registered process that is still running and every other process tagged with this JVM.
+     * Called from the shutdown hook after sessions and services were stopped gracefully.
+     * @return number of process trees killed
+     */
+    public int killRemaining() {
+        int killed = 0;
+        for (List<ProcessHandle> processes : sessionProcesses.values()) {
+            for (ProcessHandle process : processes) {
+                // isAlive() also guards against PID reuse, the handle carries the start time
+                if (process.isAlive() && BrowserProcesses.killTree(process.pid())) {
+                    killed++;
+                }
+            }
+        }
+        sessionProcesses.clear();
+        for (long pid : findTaggedRoots()) {
+            if (ownerOf(pid).equals(ownerToken) && BrowserProcesses.killTree(pid)) {
+                killed++;
+            }
+        }
+        if (killed > 0) {
+            LoggerUtil.warning("Killed " + killed + " browser/driver process tree(s) left after shutdown");
+        }
+        return killed;
+    }
+
+    /**
+     * Kill tagged processes left behind by earlier runs whose JVM has exited
+     * @return number of process trees killed
+     */
+    public int sweepOrphans() {
+        if (!BrowserProcesses.isSupported()) {
+            return 0;
+        }
+        int killed = 0;
+        for (long pid : findTaggedRoots()) {
+            String owner = ownerOf(pid);
+            if (!owner.equals(ownerToken) && !isOwnerAlive(owner) && BrowserProcesses.killTree(pid)) {
+                killed++;
+            }
+        }
+        if (killed > 0) {
+            LoggerUtil.warning("Killed " + killed + " orphaned browser/driver process tree(s) from earlier runs");
+        }
+        return killed;
+    }
+
+    /**
+     * Tagged processes whose parent is not tagged by the same owner, i.e. the top of each spawned tree
+     */
+    private List<Long> findTaggedRoots() {
+        List<Long> roots = new ArrayList<>();
+        for (long pid : BrowserProcesses.listPids()) {
+            String owner = ownerOf(pid);
+            if (owner.isEmpty()) {
+                continue;
+            }
+            Optional<Long> parent = ProcessHandle.of(pid).flatMap(ProcessHandle::parent).map(ProcessHandle::pid);
+            if (parent.isEmpty() || !isOwned(parent.get(), owner)) {
+                roots.add(pid);
+            }
+        }
+        return roots;
+    }
+
+    private static boolean isOwned(long pid, String owner) {
+        return ownerOf(pid).equals(owner);
+    }
+
+    /**
+     * Read the owner tag of a process from its command line or environment
+     * @return the owner token, or an empty string if the process is not tagged
+     */
+    private static String ownerOf(long pid) {
+        for (String argument : BrowserProcesses.readCommandLine(pid).split(" ")) {
+            if (argument.startsWith(OWNER_SWITCH)) {
+                return argument.substring(OWNER_SWITCH.length());
+            }
+        }
+        String value = BrowserProcesses.readEnvironment(pid).get(OWNER_ENVIRONMENT_VARIABLE);
+        return value == null ? "" : value;
+    }
+
+    /**
+     * Check whether the JVM identified by a "pid-startMillis" token is still running
+     */
+    private static boolean isOwnerAlive(String owner) {
+        try {
+            String[] parts = owner.split("-");
+            long pid = Long.parseLong(parts[0]);
+            long startMillis = Long.parseLong(parts[1]);
+            return ProcessHandle.of(pid)
+                .filter(ProcessHandle::isAlive)
+                .map(process -> process.info().startInstant().map(Instant::toEpochMilli).orElse(0L) == startMillis)
+                .orElse(false);
+        } catch (RuntimeException e) {
+            // Malformed tag, treat the owner as alive and leave the process alone
+            return true;
+        }
+    }
+}
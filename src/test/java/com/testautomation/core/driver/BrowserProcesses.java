@@ -0,0 +1,270 @@
+package com.testautomation.core.driver;
+
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.WebDriver;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Maps WebDriver sessions to their browser process tree and reads resource usage from /proc.
+ *
+ * The browser root process is located from the session capabilities:
+ * - Firefox reports its PID directly in moz:processID
+ * - Chrome and Edge report their userDataDir, which is matched against --user-data-dir on
+ *   the command line of running processes
+ *
+ * All methods degrade to empty results on systems without /proc (macOS, Windows).
+ */
+public final class BrowserProcesses {
+
+    private static final Path PROC = Paths.get("/proc");
+    private static final Map<WebDriver, Long> browserPids = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private BrowserProcesses() {
+    }
+
+    /**
+     * Check whether process information can be read on this system
+     */
+    public static boolean isSupported() {
+        return Files.isDirectory(PROC.resolve("self"));
+    }
+
+    /**
+     * Find the PID of the browser root process of a session
+     * @param driver the session
+     * @return the browser PID, or empty if it cannot be determined
+     */
+    public static Optional<Long> findBrowserPid(WebDriver driver) {
+        if (driver == null || !isSupported()) {
+            return Optional.empty();
+        }
+        Long cached = browserPids.get(driver);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        if (!(driver instanceof HasCapabilities)) {
+            return Optional.empty();
+        }
+
+        Optional<Long> pid = findBrowserPid(((HasCapabilities) driver).getCapabilities());
+        pid.ifPresent(value -> browserPids.put(driver, value));
+        return pid;
+    }
+
+    private static Optional<Long> findBrowserPid(Capabilities capabilities) {
+        Object firefoxPid = capabilities.getCapability("moz:processID");
+        if (firefoxPid instanceof Number) {
+            return Optional.of(((Number) firefoxPid).longValue());
+        }
+
+        String userDataDir = findUserDataDir(capabilities);
+        if (userDataDir == null) {
+            return Optional.empty();
+        }
+        String marker = "--user-data-dir=" + userDataDir;
+        List<Long> matches = new ArrayList<>();
+        for (long pid : listPids()) {
+            if (readCommandLine(pid).contains(marker)) {
+                matches.add(pid);
+            }
+        }
+        // The root is the matching process whose parent does not match
+        for (long pid : matches) {
+            Optional<Long> parent = ProcessHandle.of(pid).flatMap(ProcessHandle::parent).map(ProcessHandle::pid);
+            if (parent.isEmpty() || !matches.contains(parent.get())) {
+                return Optional.of(pid);
+            }
+        }
+        return Optional.empty();
+    }
+
+    @SuppressWarnings("unchecked")
+    static String findUserDataDir(Capabilities capabilities) {
+        for (String key : new String[]{"chrome", "msedge"}) {
+            Object browserInfo = capabilities.getCapability(key);
+            if (browserInfo instanceof Map) {
+                Object dir = ((Map<String, Object>) browserInfo).get("userDataDir");
+                if (dir instanceof String && !((String) dir).isEmpty()) {
+                    return (String) dir;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Get a process and all of its descendants
+     * @param rootPid the root process
+     * @return PIDs of the tree, root first; empty if the root is gone
+     */
+    public static List<Long> processTree(long rootPid) {
+        List<Long> tree = new ArrayList<>();
+        ProcessHandle.of(rootPid).ifPresent(root -> {
+            tree.add(root.pid());
+            root.descendants().forEach(child -> tree.add(child.pid()));
+        });
+        return tree;
+    }
+
+    /**
+     * Forcibly kill a process and all of its descendants, children first
+     * @param rootPid the root process
+     * @return true if any process of the tree was still running
+     */
+    public static boolean killTree(long rootPid) {
+        Optional<ProcessHandle> root = ProcessHandle.of(rootPid);
+        if (root.isEmpty() || !root.get().isAlive()) {
+            return false;
+        }
+        root.get().descendants().forEach(ProcessHandle::destroyForcibly);
+        root.get().destroyForcibly();
+        return true;
+    }
+
+    /**
+     * Resident set size of a single process
+     * @return RSS in kB, or 0 if it cannot be read
+     */
+    public static long readRssKb(long pid) {
+        return readStatusValue(pid, "VmRSS:");
+    }
+
+    /**
+     * Resident set size of the whole browser process tree of a session
+     * @return RSS in kB, or -1 if the browser process is unknown
+     */
+    public static long treeRssKb(WebDriver driver) {
+        Optional<Long> pid = findBrowserPid(driver);
+        if (pid.isEmpty()) {
+            return -1;
+        }
+        long total = 0;
+        for (long member : processTree(pid.get())) {
+            total += readRssKb(member);
+        }
+        return total;
+    }
+
+    /**
+     * Forget the cached PID of a session that has quit
+     */
+    public static void forget(WebDriver driver) {
+        if (driver != null) {
+            browserPids.remove(driver);
+        }
+    }
+
+    /**
+     * Read a numeric field such as "VmRSS:" or "Threads:" from /proc/[pid]/status
+     */
+    static long readStatusValue(long pid, String field) {
+        try {
+            return parseStatusValue(Files.readAllLines(PROC.resolve(pid + "/status"), StandardCharsets.UTF_8), field);
+        } catch (IOException | RuntimeException e) {
+            // Process exited between listing and reading
+            return 0;
+        }
+    }
+
+    /**
+     * Parse a numeric field of a /proc/[pid]/status file, e.g. "VmRSS:    1234 kB"
+     * @return the value, or 0 if the field is missing
+     */
+    static long parseStatusValue(List<String> lines, String field) {
+        for (String line : lines) {
+            if (line.startsWith(field)) {
+                String[] parts = line.substring(field.length()).trim().split("\\s+");
+                return Long.parseLong(parts[0]);
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Read the CPU time a process has used, user plus system, from /proc/[pid]/stat
+     * @return CPU time in clock ticks, or 0 if it cannot be read
+     */
+    static long readCpuTicks(long pid) {
+        try {
+            return parseCpuTicks(new String(Files.readAllBytes(PROC.resolve(pid + "/stat")), StandardCharsets.UTF_8));
+        } catch (IOException | RuntimeException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Parse user plus system CPU time from the content of a /proc/[pid]/stat file
+     */
+    static long parseCpuTicks(String stat) {
+        // Fields after the parenthesised command name start at field 3 (state); utime and stime are 14 and 15
+        String[] fields = stat.substring(stat.lastIndexOf(')') + 2).split("\\s+");
+        return Long.parseLong(fields[11]) + Long.parseLong(fields[12]);
+    }
+
+    /**
+     * Read the command line of a process, arguments separated by spaces
+     */
+    static String readCommandLine(long pid) {
+        try {
+            byte[] raw = Files.readAllBytes(PROC.resolve(pid + "/cmdline"));
+            return new String(raw, StandardCharsets.UTF_8).replace('\0', ' ');
+        } catch (IOException | RuntimeException e) {
+            return "";
+        }
+    }
+
+    /**
+     * Read the environment of a process; empty if it belongs to another user or has exited
+     */
+    static Map<String, String> readEnvironment(long pid) {
+        try {
+            return parseEnvironment(new String(Files.readAllBytes(PROC.resolve(pid + "/environ")), StandardCharsets.UTF_8));
+        } catch (IOException | RuntimeException e) {
+            // Not readable, treat as untagged
+            return new HashMap<>();
+        }
+    }
+
+    /**
+     * Parse the NUL separated NAME=value entries of a /proc/[pid]/environ file
+     */
+    static Map<String, String> parseEnvironment(String raw) {
+        Map<String, String> environment = new HashMap<>();
+        for (String entry : raw.split("\0")) {
+            int separator = entry.indexOf('=');
+            if (separator > 0) {
+                environment.put(entry.substring(0, separator), entry.substring(separator + 1));
+            }
+        }
+        return environment;
+    }
+
+    /**
+     * List the PIDs of all running processes
+     */
+    static List<Long> listPids() {
+        List<Long> pids = new ArrayList<>();
+        try (Stream<Path> entries = Files.list(PROC)) {
+            entries.map(path -> path.getFileName().toString())
+                .filter(name -> !name.isEmpty() && name.chars().allMatch(Character::isDigit))
+                .forEach(name -> pids.add(Long.parseLong(name)));
+        } catch (IOException e) {
+            // No /proc on this system
+        }
+        return pids;
+    }
+}
@@ -0,0 +1,60 @@
+package com.testautomation.core.driver;
+
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Unit tests of the /proc parsing; the last test reads the files of the test JVM itself.
+ */
+public class BrowserProcessesTest {
+
+    @Test(description = "A status field is read as a number without its unit")
+    public void testParseStatusValue() {
+        List<String> status = Arrays.asList(
+            "Name:\tchrome", "VmPeak:\t  912345 kB", "VmRSS:\t  204800 kB", "Threads:\t27");
+
+        Assert.assertEquals(BrowserProcesses.parseStatusValue(status, "VmRSS:"), 204800);
+        Assert.assertEquals(BrowserProcesses.parseStatusValue(status, "Threads:"), 27);
+        Assert.assertEquals(BrowserProcesses.parseStatusValue(status, "VmSwap:"), 0);
+        Assert.assertEquals(BrowserProcesses.parseStatusValue(Collections.emptyList(), "VmRSS:"), 0);
+    }
+
+    @Test(description = "CPU time is utime plus stime, also when the command name contains parentheses")
+    public void testParseCpuTicks() {
+        String stat = "4242 (Web Content (x) ) S 1 4242 4242 0 -1 4194560 1500 0 0 0 250 50 0 0 20 0 31 0 12345";
+
+        Assert.assertEquals(BrowserProcesses.parseCpuTicks(stat), 300);
+    }
+
+    @Test(description = "Environment entries are split at the first '='")
+    public void testParseEnvironment() {
+        Map<String, String> environment = BrowserProcesses.parseEnvironment(
+            "HOME=/home/ci\0TESTAUTOMATION_OWNER=123:456\0OPTS=a=b\0=invalid\0\0");
+
+        Assert.assertEquals(environment.size(), 3);
+        Assert.assertEquals(environment.get("TESTAUTOMATION_OWNER"), "123:456");
+        Assert.assertEquals(environment.get("OPTS"), "a=b");
+    }
+
+    @Test(description = "The files of a running process are read")
+    public void testReadOwnProcess() {
+        if (!BrowserProcesses.isSupported()) {
+            throw new SkipException("No /proc on this system");
+        }
+        long pid = ProcessHandle.current().pid();
+
+        Assert.assertTrue(BrowserProcesses.listPids().contains(pid));
+        Assert.assertTrue(BrowserProcesses.readRssKb(pid) > 0);
+        Assert.assertTrue(BrowserProcesses.readStatusValue(pid, "Threads:") > 0);
+        Assert.assertTrue(BrowserProcesses.readCpuTicks(pid) > 0);
+        Assert.assertTrue(BrowserProcesses.readCommandLine(pid).contains("java"));
+        Assert.assertEquals(BrowserProcesses.readEnvironment(pid).get("PATH"), System.getenv("PATH"));
+        Assert.assertEquals(BrowserProcesses.readRssKb(Long.MAX_VALUE), 0);
+    }
+}
@@ -0,0 +1,226 @@
+package com.testautomation.core.driver;
+
+import com.testautomation.core.config.ConfigReader;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
+
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Samples the CPU time, resident memory and thread count of a session's browser process tree
+ * from /proc while a test runs (every metrics.resourceSampler.intervalMillis).
+ *
+ * A lazy session is sampled from the moment its browser is launched. Sessions in a shared
+ * browser (driver.contexts.enabled) report the whole host browser, including other contexts.
+ * Without /proc no samples are taken.
+ *
+ * The sampling started on a thread is stopped with {@link #stopCurrent()}; TestListener does this
+ * right after the test method, so the usage is attached to the test in the Allure report.
+ */
+public class BrowserResourceSampler {
+
+    /** Linux reports /proc CPU times in USER_HZ ticks, which is 100 on all common configurations */
+    private static final long MILLIS_PER_TICK = 10;
+    private static final BrowserResourceSampler INSTANCE = new BrowserResourceSampler();
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "browser-resource-sampler");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final ThreadLocal<Sampling> current = new ThreadLocal<>();
+
+    private BrowserResourceSampler() {
+    }
+
+    public static BrowserResourceSampler getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Start sampling a session
+     * @param driver the session, may be a lazy driver that has not launched its browser yet
+     * @return the running sampling, or null if sampling is disabled or unsupported
+     */
+    public Sampling start(WebDriver driver) {
+        if (!ConfigReader.isResourceSamplerEnabled() || !BrowserProcesses.isSupported() || driver == null) {
+            return null;
+        }
+        // A sampling left running by a test without teardown is abandoned
+        stop(current.get());
+        Sampling sampling = new Sampling(driver);
+        long interval = Math.max(50, ConfigReader.getResourceSamplerIntervalMillis());
+        sampling.task = scheduler.scheduleAtFixedRate(sampling::sample, 0, interval, TimeUnit.MILLISECONDS);
+        current.set(sampling);
+        return sampling;
+    }
+
+    /**
+     * Stop the sampling started on the calling thread
+     * @return the usage recorded for the test, or null if nothing was sampled or it was already stopped
+     */
+    public ResourceUsage stopCurrent() {
+        Sampling sampling = current.get();
+        current.remove();
+        return stop(sampling);
+    }
+
+    /**
+     * Stop sampling and take a final sample
+     * @param sampling the value returned by {@link #start(WebDriver)}, may be null
+     * @return the usage recorded for the test, or null if no sample was taken
+     */
+    public ResourceUsage stop(Sampling sampling) {
+        if (sampling == null) {
+            return null;
+        }
+        if (current.get() == sampling) {
+            current.remove();
+        }
+        sampling.task.cancel(false);
+        sampling.sample();
+        return sampling.usage();
+    }
+
+    /**
+     * A running sampling of one session
+     */
+    public static final class Sampling {
+        private final WebDriver driver;
+        private final long startMillis = System.currentTimeMillis();
+        private ScheduledFuture<?> task;
+        private Long browserPid;
+        private int samples;
+        private long rssSumKb;
+        private long peakRssKb;
+        private long threadSum;
+        private long peakThreads;
+        private long firstCpuTicks = -1;
+        private long lastCpuTicks;
+
+        private Sampling(WebDriver driver) {
+            this.driver = driver;
+        }
+
+        private synchronized void sample() {
+            if (browserPid == null) {
+                if (!LazyWebDriver.isMaterialized(driver)) {
+                    return;
+                }
+                WebDriver session = driver instanceof WrapsDriver ? ((WrapsDriver) driver).getWrappedDriver() : driver;
+                Optional<Long> pid = BrowserProcesses.findBrowserPid(session);
+                if (pid.isEmpty()) {
+                    return;
+                }
+                browserPid = pid.get();
+            }
+
+            long rssKb = 0;
+            long threads = 0;
+            long cpuTicks = 0;
+            for (long pid : BrowserProcesses.processTree(browserPid)) {
+                rssKb += BrowserProcesses.readRssKb(pid);
+                threads += BrowserProcesses.readStatusValue(pid, "Threads:");
+                cpuTicks += BrowserProcesses.readCpuTicks(pid);
+            }
+            if (rssKb == 0) {
+                // Browser already gone
+                return;
+            }
+            samples++;
+            rssSumKb += rssKb;
+            peakRssKb = Math.max(peakRssKb, rssKb);
+            threadSum += threads;
+            peakThreads = Math.max(peakThreads, threads);
+            if (firstCpuTicks < 0) {
+                firstCpuTicks = cpuTicks;
+            }
+            // Exited renderers take their CPU time with them, so the total may drop between samples
+            lastCpuTicks = Math.max(lastCpuTicks, cpuTicks);
+        }
+
+        private synchronized ResourceUsage usage() {
+            if (samples == 0) {
+                return null;
+            }
+            return new ResourceUsage(samples, System.currentTimeMillis() - startMillis,
+                (lastCpuTicks - firstCpuTicks) * MILLIS_PER_TICK,
+                peakRssKb / 1024, rssSumKb / samples / 1024, peakThreads, threadSum / samples);
+        }
+    }
+
+    /**
+     * Browser resource usage during one test
+     */
+    public static final class ResourceUsage {
+        private final int samples;
+        private final long wallMillis;
+        private final long cpuMillis;
+        private final long peakRssMb;
+        private final long averageRssMb;
+        private final long peakThreads;
+        private final long averageThreads;
+
+        ResourceUsage(int samples, long wallMillis, long cpuMillis, long peakRssMb, long averageRssMb,
+                      long peakThreads, long averageThreads) {
+            this.samples = samples;
+            this.wallMillis = wallMillis;
+            this.cpuMillis = cpuMillis;
+            this.peakRssMb = peakRssMb;
+            this.averageRssMb = averageRssMb;
+            this.peakThreads = peakThreads;
+            this.averageThreads = averageThreads;
+        }
+
+        public int getSamples() {
+            return samples;
+        }
+
+        public long getCpuMillis() {
+            return cpuMillis;
+        }
+
+        public long getPeakRssMb() {
+            return peakRssMb;
+        }
+
+        public long getAverageRssMb() {
+            return averageRssMb;
+        }
+
+        public long getPeakThreads() {
+            return peakThreads;
+        }
+
+        public long getAverageThreads() {
+            return averageThreads;
+        }
+
+        /**
+         * Average CPU use over the test in percent of one core
+         */
+        public long getAverageCpuPercent() {
+            return wallMillis == 0 ? 0 : cpuMillis * 100 / wallMillis;
+        }
+
+        /**
+         * One-line summary, e.g. "cpu=1840ms (36%) rss peak=812MB avg=640MB threads peak=96 avg=81 samples=20"
+         */
+        public String summary() {
+            return "cpu=" + cpuMillis + "ms (" + getAverageCpuPercent() + "%)"
+                + " rss peak=" + peakRssMb + "MB avg=" + averageRssMb + "MB"
+                + " threads peak=" + peakThreads + " avg=" + averageThreads
+                + " samples=" + samples;
+        }
+
+        @Override
+        public String toString() {
+            return summary();
+        }
+    }
+}
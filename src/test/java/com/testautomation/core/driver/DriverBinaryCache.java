@@ -0,0 +1,179 @@
+package com.testautomation.core.driver;
+
+import com.testautomation.core.config.ConfigReader;
+import com.testautomation.enums.BrowserType;
+import com.testautomation.utils.common.LoggerUtil;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.manager.SeleniumManagerOutput;
+import org.openqa.selenium.remote.service.DriverFinder;
+import org.openqa.selenium.remote.service.DriverService;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Machine-wide cache of the driver and browser binaries resolved by Selenium Manager.
+ *
+ * Selenium Manager runs as a subprocess and scans the filesystem on every lookup. The cache
+ * keeps its result in a properties file (driver.binaryCache.file) keyed by browser, requested
+ * browser version and explicit browser binary, so the lookup runs once per machine and browser
+ * version instead of once per session.
+ *
+ * An entry is only reused while the driver binary still exists and the browser binary has the
+ * same size and modification time as when it was resolved; a browser update therefore triggers
+ * a new lookup. Entries without a known browser binary are not cached.
+ */
+public class DriverBinaryCache {
+
+    private static final DriverBinaryCache INSTANCE = new DriverBinaryCache();
+
+    private final Path cacheFile = Paths.get(ConfigReader.getDriverBinaryCacheFile());
+    private final Properties entries = new Properties();
+    private int hits = 0;
+    private int misses = 0;
+
+    private DriverBinaryCache() {
+        if (Files.isRegularFile(cacheFile)) {
+            try (InputStream input = Files.newInputStream(cacheFile)) {
+                entries.load(input);
+            } catch (IOException e) {
+                LoggerUtil.warning("Ignoring unreadable driver binary cache " + cacheFile + ": " + e.getMessage());
+            }
+        }
+    }
+
+    public static DriverBinaryCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Resolved driver and browser binary paths
+     */
+    public static final class Binaries {
+        private final String driverPath;
+        private final String browserPath;
+
+        Binaries(String driverPath, String browserPath) {
+            this.driverPath = driverPath;
+            this.browserPath = browserPath;
+        }
+
+        public String getDriverPath() {
+            return driverPath;
+        }
+
+        /**
+         * @return the browser binary, or null to let the driver locate the browser
+         */
+        public String getBrowserPath() {
+            return browserPath == null || browserPath.isEmpty() ? null : browserPath;
+        }
+    }
+
+    /**
+     * Get the binaries for a session, from the cache when it is still valid, otherwise from
+     * Selenium Manager. Concurrent callers wait for a single lookup instead of each running one.
+     * @param browserType the browser
+     * @param service the driver service the binaries are resolved for
+     * @param options the session options
+     */
+    public synchronized Binaries resolve(BrowserType browserType, DriverService service, Capabilities options) {
+        String key = cacheKey(browserType, options);
+        if (ConfigReader.isDriverBinaryCacheEnabled()) {
+            Binaries cached = lookup(key);
+            if (cached != null) {
+                hits++;
+                return cached;
+            }
+        }
+
+        misses++;
+        SeleniumManagerOutput.Result result = DriverFinder.getPath(service, options);
+        Binaries resolved = new Binaries(result.getDriverPath(), result.getBrowserPath());
+        if (ConfigReader.isDriverBinaryCacheEnabled() && resolved.getBrowserPath() != null) {
+            store(key, resolved);
+        }
+        return resolved;
+    }
+
+    private Binaries lookup(String key) {
+        String driverPath = entries.getProperty(key + ".driverPath");
+        String browserPath = entries.getProperty(key + ".browserPath");
+        if (driverPath == null || browserPath == null || !Files.isExecutable(Paths.get(driverPath))) {
+            return null;
+        }
+        String fingerprint = fingerprint(browserPath);
+        if (fingerprint == null || !fingerprint.equals(entries.getProperty(key + ".browserFingerprint"))) {
+            LoggerUtil.info("Browser binary changed since it was resolved, refreshing cache entry " + key);
+            return null;
+        }
+        return new Binaries(driverPath, browserPath);
+    }
+
+    private void store(String key, Binaries binaries) {
+        String fingerprint = fingerprint(binaries.getBrowserPath());
+        if (fingerprint == null) {
+            return;
+        }
+        entries.setProperty(key + ".driverPath", binaries.getDriverPath());
+        entries.setProperty(key + ".browserPath", binaries.getBrowserPath());
+        entries.setProperty(key + ".browserFingerprint", fingerprint);
+        try {
+            // Write to a temporary file and move it into place so parallel JVMs never read a partial file
+            Files.createDirectories(cacheFile.toAbsolutePath().getParent());
+            Path temp = Files.createTempFile(cacheFile.toAbsolutePath().getParent(), "driver-binaries", ".tmp");
+            try (OutputStream output = Files.newOutputStream(temp)) {
+                entries.store(output, "Driver and browser binaries resolved by Selenium Manager");
+            }
+            try {
+                Files.move(temp, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, cacheFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            LoggerUtil.warning("Failed to write driver binary cache " + cacheFile + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Cache key from the browser, the requested browser version and an explicit browser binary
+     */
+    private static String cacheKey(BrowserType browserType, Capabilities options) {
+        String version = options.getBrowserVersion();
+        String key = browserType.getValue() + "." + (version == null || version.isEmpty() ? "default" : version);
+        for (Object vendorOptions : options.asMap().values()) {
+            if (vendorOptions instanceof Map && ((Map<?, ?>) vendorOptions).get("binary") instanceof String) {
+                key += "." + Integer.toHexString(((Map<?, ?>) vendorOptions).get("binary").hashCode());
+            }
+        }
+        return key;
+    }
+
+    /**
+     * Size and modification time of the browser binary, or null if it does not exist
+     */
+    private static String fingerprint(String browserPath) {
+        try {
+            Path binary = Paths.get(browserPath);
+            return Files.size(binary) + ":" + Files.getLastModifiedTime(binary).toMillis();
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Get cache statistics
+     * @return formatted string with current statistics
+     */
+    public synchronized String getStatistics() {
+        return "Driver binary cache: " + hits + " hit(s), " + misses + " Selenium Manager lookup(s) [" + cacheFile + "]";
+    }
+}
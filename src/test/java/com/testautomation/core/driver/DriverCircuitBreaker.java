@@ -0,0 +1,157 @@
+package com.testautomation.core.driver;
+
+import com.testautomation.core.config.ConfigReader;
+import com.testautomation.core.exceptions.WebDriverException;
+import com.testautomation.enums.BrowserType;
+import com.testautomation.utils.common.LoggerUtil;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Stops the suite from retrying a browser that cannot be started.
+ *
+ * When a driver and its browser drift apart every session creation fails, each after a long
+ * timeout. After driver.circuitBreaker.failureThreshold consecutive failures for a BrowserType
+ * the circuit opens and further creations fail immediately with the last error. Once the
+ * backoff has passed a single caller is let through as a probe: success closes the circuit,
+ * failure opens it again with twice the backoff, up to driver.circuitBreaker.maxBackoffSeconds.
+ * Backoffs are jittered so parallel suites on one agent do not probe in lockstep.
+ */
+public class DriverCircuitBreaker {
+
+    private static final DriverCircuitBreaker INSTANCE = new DriverCircuitBreaker();
+
+    private final Map<BrowserType, Circuit> circuits = new EnumMap<>(BrowserType.class);
+
+    DriverCircuitBreaker() {
+    }
+
+    public static DriverCircuitBreaker getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Fail fast if the circuit of a browser is open; lets one probe through once the backoff passed
+     * @param browserType the browser about to be created
+     * @throws WebDriverException if the circuit is open
+     */
+    public synchronized void beforeCreate(BrowserType browserType) {
+        if (!ConfigReader.isDriverCircuitBreakerEnabled()) {
+            return;
+        }
+        Circuit circuit = circuit(browserType);
+        if (!circuit.open) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        if (now >= circuit.retryAt && !circuit.probing) {
+            circuit.probing = true;
+            LoggerUtil.info("Probing " + browserType.getValue() + " driver creation after circuit breaker backoff");
+            return;
+        }
+        circuit.rejected++;
+        String retry = circuit.probing ? "a probe is in progress"
+            : "next attempt in " + Math.max(1, (circuit.retryAt - now) / 1000) + "s";
+        throw new WebDriverException("DriverCircuitBreaker",
+            "Not creating " + browserType.getValue() + " driver: " + circuit.consecutiveFailures
+                + " consecutive creation failures, " + retry + ". Last error: " + circuit.lastError);
+    }
+
+    /**
+     * Close the circuit of a browser after a successful creation
+     */
+    public synchronized void recordSuccess(BrowserType browserType) {
+        Circuit circuit = circuit(browserType);
+        if (circuit.open) {
+            LoggerUtil.info("Circuit breaker for " + browserType.getValue() + " closed, driver creation recovered");
+        }
+        circuit.open = false;
+        circuit.probing = false;
+        circuit.consecutiveFailures = 0;
+        circuit.backoffMillis = 0;
+    }
+
+    /**
+     * Count a failed creation and open the circuit once the threshold is reached
+     */
+    public synchronized void recordFailure(BrowserType browserType, Throwable error) {
+        Circuit circuit = circuit(browserType);
+        circuit.consecutiveFailures++;
+        circuit.lastError = rootMessage(error);
+        boolean failedProbe = circuit.probing;
+        circuit.probing = false;
+        if (!failedProbe && circuit.consecutiveFailures < Math.max(1, ConfigReader.getDriverCircuitBreakerFailureThreshold())) {
+            return;
+        }
+
+        long baseMillis = ConfigReader.getDriverCircuitBreakerBaseBackoffSeconds() * 1000L;
+        long maxMillis = ConfigReader.getDriverCircuitBreakerMaxBackoffSeconds() * 1000L;
+        circuit.backoffMillis = circuit.backoffMillis == 0 ? baseMillis : Math.min(maxMillis, circuit.backoffMillis * 2);
+        // Jitter between half and the full backoff
+        long delay = circuit.backoffMillis / 2 + ThreadLocalRandom.current().nextLong(circuit.backoffMillis / 2 + 1);
+        circuit.retryAt = System.currentTimeMillis() + delay;
+        if (!circuit.open) {
+            circuit.trips++;
+        }
+        circuit.open = true;
+        LoggerUtil.warning("Circuit breaker for " + browserType.getValue() + " open after "
+            + circuit.consecutiveFailures + " consecutive failures, retrying in " + delay + "ms: " + circuit.lastError);
+    }
+
+    /**
+     * End a probe that neither succeeded nor failed with an Exception, e.g. because it threw an
+     * Error. The circuit stays open and the next caller probes again. Call from a finally block.
+     */
+    public synchronized void releaseProbe(BrowserType browserType) {
+        Circuit circuit = circuits.get(browserType);
+        if (circuit != null) {
+            circuit.probing = false;
+        }
+    }
+
+    private Circuit circuit(BrowserType browserType) {
+        return circuits.computeIfAbsent(browserType, type -> new Circuit());
+    }
+
+    private static String rootMessage(Throwable error) {
+        Throwable root = error;
+        while (root.getCause() != null && root.getCause() != root) {
+            root = root.getCause();
+        }
+        String message = root.getMessage() == null ? root.getClass().getSimpleName() : root.getMessage();
+        // Selenium appends build and system information after the first line
+        return message.split("\n", 2)[0];
+    }
+
+    /**
+     * Get circuit breaker statistics
+     * @return formatted string with current statistics
+     */
+    public synchronized String getStatistics() {
+        StringBuilder stats = new StringBuilder();
+        stats.append("=== Driver Circuit Breaker Statistics ===\n");
+        circuits.forEach((browserType, circuit) -> stats.append(browserType.getValue()).append(": ")
+            .append(circuit.open ? "open" : "closed")
+            .append(", trips=").append(circuit.trips)
+            .append(", rejected=").append(circuit.rejected)
+            .append(", consecutive failures=").append(circuit.consecutiveFailures).append("\n"));
+        stats.append("=========================================");
+        return stats.toString();
+    }
+
+    /**
+     * Failure state of one browser
+     */
+    private static final class Circuit {
+        private boolean open;
+        private boolean probing;
+        private int consecutiveFailures;
+        private long backoffMillis;
+        private long retryAt;
+        private int trips;
+        private int rejected;
+        private String lastError;
+    }
+}
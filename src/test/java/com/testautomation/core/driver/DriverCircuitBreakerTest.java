@@ -0,0 +1,123 @@
+package com.testautomation.core.driver;
+
+import com.testautomation.core.exceptions.WebDriverException;
+import com.testautomation.enums.BrowserType;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * Unit tests of the circuit breaker state machine, each on a fresh breaker.
+ */
+public class DriverCircuitBreakerTest {
+
+    private static final BrowserType BROWSER = BrowserType.SAFARI;
+
+    @BeforeClass
+    public void enableCircuitBreaker() {
+        System.setProperty("driver.circuitBreaker.enabled", "true");
+        System.setProperty("driver.circuitBreaker.failureThreshold", "2");
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void restoreConfiguration() {
+        System.clearProperty("driver.circuitBreaker.enabled");
+        System.clearProperty("driver.circuitBreaker.failureThreshold");
+        System.clearProperty("driver.circuitBreaker.baseBackoffSeconds");
+    }
+
+    @Test(description = "The circuit opens at the failure threshold and rejects until the backoff passed")
+    public void testOpensAtThreshold() {
+        System.setProperty("driver.circuitBreaker.baseBackoffSeconds", "60");
+        DriverCircuitBreaker breaker = new DriverCircuitBreaker();
+
+        breaker.recordFailure(BROWSER, new RuntimeException("session not created"));
+        breaker.beforeCreate(BROWSER);
+        breaker.recordFailure(BROWSER, new RuntimeException("session not created"));
+
+        WebDriverException rejected = expectRejected(breaker);
+        Assert.assertTrue(rejected.getMessage().contains("next attempt in"), rejected.getMessage());
+        Assert.assertTrue(rejected.getMessage().contains("session not created"), rejected.getMessage());
+    }
+
+    @Test(description = "A success resets the failure count")
+    public void testSuccessResetsFailures() {
+        System.setProperty("driver.circuitBreaker.baseBackoffSeconds", "60");
+        DriverCircuitBreaker breaker = new DriverCircuitBreaker();
+
+        breaker.recordFailure(BROWSER, new RuntimeException("first"));
+        breaker.recordSuccess(BROWSER);
+        breaker.recordFailure(BROWSER, new RuntimeException("second"));
+
+        breaker.beforeCreate(BROWSER);
+    }
+
+    @Test(description = "After the backoff one probe is let through at a time")
+    public void testSingleProbe() {
+        System.setProperty("driver.circuitBreaker.baseBackoffSeconds", "0");
+        DriverCircuitBreaker breaker = openCircuit();
+
+        breaker.beforeCreate(BROWSER);
+        WebDriverException rejected = expectRejected(breaker);
+        Assert.assertTrue(rejected.getMessage().contains("a probe is in progress"), rejected.getMessage());
+
+        breaker.recordSuccess(BROWSER);
+        breaker.beforeCreate(BROWSER);
+        breaker.beforeCreate(BROWSER);
+        Assert.assertTrue(breaker.getStatistics().contains("closed, trips=1"), breaker.getStatistics());
+    }
+
+    @Test(description = "A failed probe opens the circuit again without counting another trip")
+    public void testFailedProbeReopens() {
+        System.setProperty("driver.circuitBreaker.baseBackoffSeconds", "0");
+        DriverCircuitBreaker breaker = openCircuit();
+
+        breaker.beforeCreate(BROWSER);
+        breaker.recordFailure(BROWSER, new RuntimeException("still broken"));
+
+        Assert.assertTrue(breaker.getStatistics().contains("open, trips=1"), breaker.getStatistics());
+        breaker.beforeCreate(BROWSER);
+    }
+
+    @Test(description = "A released probe lets the next caller probe")
+    public void testReleaseProbe() {
+        System.setProperty("driver.circuitBreaker.baseBackoffSeconds", "0");
+        DriverCircuitBreaker breaker = openCircuit();
+
+        breaker.beforeCreate(BROWSER);
+        breaker.releaseProbe(BROWSER);
+
+        breaker.beforeCreate(BROWSER);
+        Assert.assertTrue(breaker.getStatistics().contains("open"), breaker.getStatistics());
+    }
+
+    @Test(description = "A disabled circuit breaker never rejects")
+    public void testDisabled() {
+        System.setProperty("driver.circuitBreaker.baseBackoffSeconds", "60");
+        DriverCircuitBreaker breaker = openCircuit();
+
+        System.setProperty("driver.circuitBreaker.enabled", "false");
+        try {
+            breaker.beforeCreate(BROWSER);
+        } finally {
+            System.setProperty("driver.circuitBreaker.enabled", "true");
+        }
+    }
+
+    private static DriverCircuitBreaker openCircuit() {
+        DriverCircuitBreaker breaker = new DriverCircuitBreaker();
+        breaker.recordFailure(BROWSER, new RuntimeException("session not created"));
+        breaker.recordFailure(BROWSER, new RuntimeException("session not created"));
+        return breaker;
+    }
+
+    private static WebDriverException expectRejected(DriverCircuitBreaker breaker) {
+        try {
+            breaker.beforeCreate(BROWSER);
+        } catch (WebDriverException e) {
+            return e;
+        }
+        throw new AssertionError("Expected the circuit breaker to reject driver creation");
+    }
+}
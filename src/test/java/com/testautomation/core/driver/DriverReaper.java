@@ -0,0 +1,164 @@
+package com.testautomation.core.driver;
+
+import com.testautomation.core.config.ConfigReader;
+import com.testautomation.utils.common.LoggerUtil;
+import org.openqa.selenium.WebDriver;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Quits WebDriver sessions on background threads so test workers can start the next test
+ * while the browser shuts down.
+ *
+ * - driver.reaper.threads: number of threads running quit()
+ * - driver.reaper.maxPending: sessions that may be waiting to be quit; further submissions block
+ *   until a slot frees up so unreaped browsers cannot pile up
+ * - driver.reaper.quitTimeoutSeconds: after this time the browser process tree is killed
+ *
+ * Call {@link #drain(long)} at suite end to wait for every pending quit.
+ */
+public class DriverReaper {
+
+    private static final DriverReaper INSTANCE = new DriverReaper();
+
+    private final int maxPending = Math.max(1, ConfigReader.getDriverReaperMaxPending());
+    private final Semaphore pendingSlots = new Semaphore(maxPending, true);
+    private final ExecutorService reapers = Executors.newFixedThreadPool(
+        Math.max(1, ConfigReader.getDriverReaperThreads()), runnable -> {
+            Thread thread = new Thread(runnable, "driver-reaper");
+            thread.setDaemon(true);
+            return thread;
+        });
+    private final ScheduledExecutorService watchdog = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "driver-reaper-watchdog");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final AtomicInteger sessionsReaped = new AtomicInteger(0);
+    private final AtomicInteger forceKills = new AtomicInteger(0);
+    private final AtomicInteger backPressureWaits = new AtomicInteger(0);
+    private final AtomicLong backPressureMillis = new AtomicLong(0);
+
+    private DriverReaper() {
+    }
+
+    public static DriverReaper getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Queue a session to be quit in the background.
+     * Blocks the caller while the maximum number of sessions is already waiting to be quit.
+     * @param session the session to quit
+     * @param force close the current window before quitting and kill the browser right away if quit fails
+     */
+    public void submit(WebDriver session, boolean force) {
+        if (!pendingSlots.tryAcquire()) {
+            backPressureWaits.incrementAndGet();
+            long waitStart = System.currentTimeMillis();
+            try {
+                pendingSlots.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                WebDriverManager.quitNow(session);
+                return;
+            } finally {
+                backPressureMillis.addAndGet(System.currentTimeMillis() - waitStart);
+            }
+        }
+
+        try {
+            reapers.submit(() -> reap(session, force));
+        } catch (Exception e) {
+            // Executor shut down, quit on the calling thread
+            pendingSlots.release();
+            WebDriverManager.quitNow(session);
+        }
+    }
+
+    private void reap(WebDriver session, boolean force) {
+        // A browser context shares its browser process with other tests: never kill it
+        Optional<Long> browserPid = BrowserContextManager.getInstance().isContext(session)
+            ? Optional.empty()
+            : BrowserProcesses.findBrowserPid(session);
+        ScheduledFuture<?> forceKill = browserPid.isPresent()
+            ? watchdog.schedule(() -> forceKill(browserPid.get()),
+                ConfigReader.getDriverReaperQuitTimeoutSeconds(), TimeUnit.SECONDS)
+            : null;
+        try {
+            if (force) {
+                closeQuietly(session);
+            }
+            WebDriverManager.quitNow(session);
+        } catch (Exception e) {
+            LoggerUtil.warning("Background quit failed, force-killing browser: " + e.getMessage());
+            browserPid.ifPresent(this::forceKill);
+        } finally {
+            if (forceKill != null) {
+                forceKill.cancel(false);
+            }
+            sessionsReaped.incrementAndGet();
+            pendingSlots.release();
+        }
+    }
+
+    private void closeQuietly(WebDriver session) {
+        try {
+            session.close();
+        } catch (Exception e) {
+            // quit() still runs and the watchdog kills the browser if it hangs
+        }
+    }
+
+    private void forceKill(long browserPid) {
+        if (BrowserProcesses.killTree(browserPid)) {
+            forceKills.incrementAndGet();
+            LoggerUtil.warning("Force-killed browser process tree " + browserPid);
+        }
+    }
+
+    /**
+     * Wait until every queued session has been quit
+     * @param timeoutSeconds maximum time to wait
+     * @return true if all sessions were quit in time
+     */
+    public boolean drain(long timeoutSeconds) {
+        try {
+            if (pendingSlots.tryAcquire(maxPending, timeoutSeconds, TimeUnit.SECONDS)) {
+                pendingSlots.release(maxPending);
+                return true;
+            }
+            LoggerUtil.warning("DriverReaper drain timed out with "
+                + (maxPending - pendingSlots.availablePermits()) + " session(s) still quitting");
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Get background teardown statistics
+     * @return formatted string with current statistics
+     */
+    public String getStatistics() {
+        StringBuilder stats = new StringBuilder();
+        stats.append("=== DriverReaper Statistics ===\n");
+        stats.append("Sessions Reaped: ").append(sessionsReaped.get()).append("\n");
+        stats.append("Pending: ").append(maxPending - pendingSlots.availablePermits()).append("\n");
+        stats.append("Force Kills: ").append(forceKills.get()).append("\n");
+        stats.append("Back-Pressure Waits: ").append(backPressureWaits.get())
+            .append(" (").append(backPressureMillis.get()).append("ms total)\n");
+        stats.append("===============================");
+        return stats.toString();
+    }
+}
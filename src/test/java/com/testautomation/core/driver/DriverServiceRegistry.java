@@ -0,0 +1,202 @@
+package com.testautomation.core.driver;
+
+import com.testautomation.core.config.ConfigReader;
+import com.testautomation.core.exceptions.WebDriverException;
+import com.testautomation.enums.BrowserType;
+import com.testautomation.utils.common.LoggerUtil;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriverService;
+import org.openqa.selenium.chrome.ChromeOptions;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Owns the long-lived chromedriver processes that all ChromeDriver sessions multiplex over.
+ *
+ * Services are started lazily on the first Chrome session. With driver.service.sessionsPerService=0
+ * a single service serves the whole JVM, otherwise a new service is started whenever every running
+ * service already carries that many active sessions. The chromedriver path is resolved once and
+ * reused for every service. A service whose process has stopped is dropped together with its
+ * sessions before a replacement is started. All services are stopped from the WebDriverManager
+ * shutdown hook.
+ */
+public class DriverServiceRegistry {
+
+    private static final DriverServiceRegistry INSTANCE = new DriverServiceRegistry();
+
+    private final List<ServiceSlot> chromeServices = new ArrayList<>();
+    private final ConcurrentHashMap<WebDriver, ServiceSlot> sessions = new ConcurrentHashMap<>();
+    private volatile String chromeDriverPath;
+    private volatile String chromeBrowserPath;
+
+    private DriverServiceRegistry() {
+    }
+
+    public static DriverServiceRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Get a running shared ChromeDriverService with capacity for one more session.
+     * The caller must either {@link #register(WebDriver, ChromeDriverService)} the created session
+     * or give the slot back with {@link #releaseSlot(ChromeDriverService)} if session creation failed.
+     *
+     * @param options the options of the session, used to resolve the driver binary on first use
+     * @return a started ChromeDriverService
+     */
+    public synchronized ChromeDriverService acquireChromeService(ChromeOptions options) {
+        removeStoppedServices();
+        int sessionsPerService = ConfigReader.getDriverServiceSessionsPerService();
+        for (ServiceSlot slot : chromeServices) {
+            if (sessionsPerService <= 0 || slot.activeSessions < sessionsPerService) {
+                slot.activeSessions++;
+                return slot.service;
+            }
+        }
+
+        ServiceSlot slot = new ServiceSlot(startChromeService(options));
+        slot.activeSessions++;
+        chromeServices.add(slot);
+        LoggerUtil.info("Started shared ChromeDriverService #" + chromeServices.size() + " at " + slot.service.getUrl());
+        return slot.service;
+    }
+
+    /**
+     * Associate a created session with the service it runs on
+     */
+    public void register(WebDriver session, ChromeDriverService service) {
+        ServiceSlot slot = findSlot(service);
+        if (slot != null) {
+            sessions.put(session, slot);
+        }
+    }
+
+    /**
+     * Give back a slot acquired for a session that failed to start
+     */
+    public synchronized void releaseSlot(ChromeDriverService service) {
+        ServiceSlot slot = findSlot(service);
+        if (slot != null && slot.activeSessions > 0) {
+            slot.activeSessions--;
+        }
+    }
+
+    /**
+     * Release the service slot held by a session that has quit
+     */
+    public void release(WebDriver session) {
+        ServiceSlot slot = session == null ? null : sessions.remove(session);
+        if (slot != null) {
+            releaseSlot(slot.service);
+        }
+    }
+
+    /**
+     * Check whether the session runs on a shared driver service
+     */
+    public boolean isShared(WebDriver session) {
+        return session != null && sessions.containsKey(session);
+    }
+
+    /**
+     * Browser binary resolved together with the driver, or null when chromedriver locates Chrome itself
+     */
+    public String getChromeBrowserPath() {
+        return chromeBrowserPath == null || chromeBrowserPath.isEmpty() ? null : chromeBrowserPath;
+    }
+
+    /**
+     * Stop every shared driver service
+     */
+    public synchronized void shutdown() {
+        for (ServiceSlot slot : chromeServices) {
+            try {
+                slot.service.shutdown();
+            } catch (Exception e) {
+                LoggerUtil.error("Failed to stop shared ChromeDriverService", e);
+            }
+        }
+        if (!chromeServices.isEmpty()) {
+            LoggerUtil.info("Stopped " + chromeServices.size() + " shared ChromeDriverService process(es)");
+        }
+        chromeServices.clear();
+        sessions.clear();
+    }
+
+    /**
+     * Drop the slots of services whose chromedriver process has exited, and the sessions that
+     * ran on them
+     */
+    private void removeStoppedServices() {
+        for (Iterator<ServiceSlot> iterator = chromeServices.iterator(); iterator.hasNext(); ) {
+            ServiceSlot slot = iterator.next();
+            if (slot.service.isRunning()) {
+                continue;
+            }
+            iterator.remove();
+            sessions.values().removeIf(owner -> owner == slot);
+            LoggerUtil.warning("Shared ChromeDriverService at " + slot.service.getUrl() + " has stopped, dropped it with "
+                + slot.activeSessions + " active session(s)");
+            try {
+                slot.service.shutdown();
+            } catch (Exception e) {
+                LoggerUtil.debug("Failed to clean up stopped ChromeDriverService: " + e.getMessage());
+            }
+        }
+    }
+
+    private synchronized ServiceSlot findSlot(ChromeDriverService service) {
+        for (ServiceSlot slot : chromeServices) {
+            if (slot.service == service) {
+                return slot;
+            }
+        }
+        return null;
+    }
+
+    private SharedChromeDriverService startChromeService(ChromeOptions options) {
+        try {
+            ChromeDriverService.Builder builder = SharedChromeDriverService.builder()
+                .usingAnyFreePort()
+                .withEnvironment(BrowserProcessRegistry.getInstance().getOwnerEnvironment());
+            if (chromeDriverPath != null) {
+                builder.usingDriverExecutable(new File(chromeDriverPath));
+            }
+            SharedChromeDriverService service = (SharedChromeDriverService) builder.build();
+
+            // Resolve the chromedriver binary once; every later service and session reuses the path
+            if (service.getExecutable() == null) {
+                DriverBinaryCache.Binaries binaries = DriverStartupMetrics.time(BrowserType.CHROME,
+                    DriverStartupMetrics.Phase.BINARY_RESOLUTION,
+                    () -> DriverBinaryCache.getInstance().resolve(BrowserType.CHROME, service, options));
+                chromeDriverPath = binaries.getDriverPath();
+                chromeBrowserPath = binaries.getBrowserPath();
+                service.setExecutable(chromeDriverPath);
+            }
+            long start = System.currentTimeMillis();
+            service.start();
+            DriverStartupMetrics.record(BrowserType.CHROME, DriverStartupMetrics.Phase.SERVICE_START,
+                System.currentTimeMillis() - start);
+            return service;
+        } catch (Exception e) {
+            throw new WebDriverException("ChromeDriverService",
+                "Failed to start shared ChromeDriverService", e);
+        }
+    }
+
+    /**
+     * A shared service and the number of sessions currently running on it
+     */
+    private static final class ServiceSlot {
+        private final SharedChromeDriverService service;
+        private int activeSessions = 0;
+
+        private ServiceSlot(SharedChromeDriverService service) {
+            this.service = service;
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package com.testautomation.core.driver;
+
+import com.testautomation.core.config.ConfigReader;
+import com.testautomation.core.metrics.LatencyHistogram;
+import com.testautomation.enums.BrowserType;
+import com.testautomation.utils.common.LoggerUtil;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.WebDriver;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Latency histograms for each phase of WebDriver session startup, kept per BrowserType.
+ *
+ * The browser launch and session handshake are both part of the driver constructor call.
+ * The launch is measured from the start time of the browser root process to the moment the
+ * browser announced its debugging port (the DevToolsActivePort file in the Chromium user data
+ * directory, MarionetteActivePort in the Firefox profile). The rest of the constructor call
+ * is handshake. When either point cannot be determined the whole call counts as handshake.
+ *
+ * The resident memory of each browser process tree is sampled right before the session quits.
+ *
+ * Every figure is labelled with browser.mode, so runs in headless and headless-shell mode can be
+ * compared. Histograms are logged and written to metrics.directory/driver-startup.csv at suite end.
+ */
+public final class DriverStartupMetrics {
+
+    public enum Phase {
+        OPTIONS("options"),
+        BINARY_RESOLUTION("binary resolution"),
+        SERVICE_START("service start"),
+        BROWSER_LAUNCH("browser launch"),
+        SESSION_HANDSHAKE("session handshake"),
+        IMPLICIT_WAIT("implicitlyWait"),
+        PAGE_LOAD_TIMEOUT("pageLoadTimeout"),
+        SCRIPT_TIMEOUT("scriptTimeout"),
+        FIRST_NAVIGATION("first navigation");
+
+        private final String label;
+
+        Phase(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    private static final Map<BrowserType, Map<Phase, LatencyHistogram>> histograms = new ConcurrentHashMap<>();
+    private static final Map<String, RssStats> sessionRss = new ConcurrentHashMap<>();
+
+    private DriverStartupMetrics() {
+    }
+
+    /**
+     * Record the duration of a startup phase
+     */
+    public static void record(BrowserType browserType, Phase phase, long millis) {
+        Map<Phase, LatencyHistogram> phases = histograms.computeIfAbsent(browserType, type -> {
+            Map<Phase, LatencyHistogram> map = new EnumMap<>(Phase.class);
+            for (Phase each : Phase.values()) {
+                map.put(each, new LatencyHistogram());
+            }
+            return map;
+        });
+        phases.get(phase).record(millis);
+    }
+
+    /**
+     * Run an action and record its duration
+     * @return the action's result
+     */
+    public static <T> T time(BrowserType browserType, Phase phase, Supplier<T> action) {
+        long start = System.currentTimeMillis();
+        try {
+            return action.get();
+        } finally {
+            record(browserType, phase, System.currentTimeMillis() - start);
+        }
+    }
+
+    /**
+     * Split a driver constructor call into browser launch and session handshake
+     * @param session the created session
+     * @param start constructor start in epoch milliseconds
+     * @param end constructor end in epoch milliseconds
+     */
+    public static void recordLaunch(BrowserType browserType, WebDriver session, long start, long end) {
+        long launch = 0;
+        Optional<Long> spawned = BrowserProcesses.findBrowserPid(session)
+            .flatMap(ProcessHandle::of)
+            .flatMap(process -> process.info().startInstant())
+            .map(Instant::toEpochMilli);
+        Optional<Long> ready = findReadyMarker(session);
+        if (spawned.isPresent() && ready.isPresent()
+            && spawned.get() >= start && ready.get() >= spawned.get() && ready.get() <= end) {
+            launch = ready.get() - spawned.get();
+            record(browserType, Phase.BROWSER_LAUNCH, launch);
+        }
+        record(browserType, Phase.SESSION_HANDSHAKE, end - start - launch);
+    }
+
+    /**
+     * Modification time of the file the browser writes once its debugging port is open
+     */
+    private static Optional<Long> findReadyMarker(WebDriver session) {
+        if (!(session instanceof HasCapabilities)) {
+            return Optional.empty();
+        }
+        Capabilities capabilities = ((HasCapabilities) session).getCapabilities();
+        Path marker = null;
+        String userDataDir = BrowserProcesses.findUserDataDir(capabilities);
+        Object firefoxProfile = capabilities.getCapability("moz:profile");
+        if (userDataDir != null) {
+            marker = Paths.get(userDataDir, "DevToolsActivePort");
+        } else if (firefoxProfile instanceof String) {
+            marker = Paths.get((String) firefoxProfile, "MarionetteActivePort");
+        }
+        try {
+            return marker != null && Files.exists(marker)
+                ? Optional.of(Files.getLastModifiedTime(marker).toMillis())
+                : Optional.empty();
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Sample the resident memory of a session's browser process tree
+     * @param session the session, typically right before it quits
+     */
+    public static void recordSessionRss(WebDriver session) {
+        if (!(session instanceof HasCapabilities)) {
+            return;
+        }
+        long rssKb = BrowserProcesses.treeRssKb(session);
+        if (rssKb > 0) {
+            String browserName = ((HasCapabilities) session).getCapabilities().getBrowserName();
+            sessionRss.computeIfAbsent(browserName, name -> new RssStats()).record(rssKb / 1024);
+        }
+    }
+
+    /**
+     * Mean memory of the sessions of a browser sampled so far
+     * @param browserName the browserName capability, e.g. "chrome" or "MicrosoftEdge"
+     * @return mean RSS in MB, or 0 if no session of the browser was sampled
+     */
+    public static long getMeanSessionRssMb(String browserName) {
+        RssStats rss = sessionRss.get(browserName);
+        return rss == null ? 0 : rss.mean();
+    }
+
+    /**
+     * Get the histogram of a phase, or null if nothing was recorded for the browser
+     */
+    public static LatencyHistogram getHistogram(BrowserType browserType, Phase phase) {
+        Map<Phase, LatencyHistogram> phases = histograms.get(browserType);
+        return phases == null ? null : phases.get(phase);
+    }
+
+    /**
+     * Get startup phase statistics for every browser that was started
+     * @return formatted string with current statistics
+     */
+    public static String getStatistics() {
+        StringBuilder stats = new StringBuilder();
+        stats.append("=== Driver Startup Statistics ===\n");
+        stats.append("Browser Mode: ").append(ConfigReader.getBrowserMode()).append("\n");
+        histograms.forEach((browserType, phases) -> {
+            stats.append(browserType.getValue()).append(":\n");
+            phases.forEach((phase, histogram) -> {
+                if (histogram.getCount() > 0) {
+                    stats.append("  ").append(phase.getLabel()).append(": ").append(histogram.summary()).append("\n");
+                }
+            });
+        });
+        sessionRss.forEach((browserName, rss) ->
+            stats.append(browserName).append(" session RSS: ").append(rss.summary()).append("\n"));
+        stats.append("=================================");
+        return stats.toString();
+    }
+
+    /**
+     * Write all histograms as CSV, one row per browser, phase and bucket
+     * @return the written file, or null if nothing was recorded or writing failed
+     */
+    public static Path export() {
+        if (histograms.isEmpty()) {
+            return null;
+        }
+        Path file = Paths.get(ConfigReader.getMetricsDirectory(), "driver-startup.csv");
+        long[] bounds = LatencyHistogram.getBucketBounds();
+        try {
+            Files.createDirectories(file.getParent());
+            try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(file, StandardCharsets.UTF_8))) {
+                String mode = ConfigReader.getBrowserMode();
+                writer.println("browser,mode,phase,le_ms,count");
+                histograms.forEach((browserType, phases) -> phases.forEach((phase, histogram) -> {
+                    long[] counts = histogram.getBucketCounts();
+                    for (int i = 0; i < counts.length; i++) {
+                        writer.println(browserType.getValue() + "," + mode + "," + phase.getLabel() + ","
+                            + (i < bounds.length ? String.valueOf(bounds[i]) : "+Inf") + "," + counts[i]);
+                    }
+                }));
+            }
+            LoggerUtil.info("Driver startup histograms written to " + file);
+            return file;
+        } catch (IOException e) {
+            LoggerUtil.error("Failed to write driver startup histograms", e);
+            return null;
+        }
+    }
+
+    /**
+     * Count, mean and maximum of the sampled session memory in MB
+     */
+    private static final class RssStats {
+        private final AtomicLong count = new AtomicLong(0);
+        private final AtomicLong sumMb = new AtomicLong(0);
+        private final AtomicLong maxMb = new AtomicLong(0);
+
+        private void record(long mb) {
+            count.incrementAndGet();
+            sumMb.addAndGet(mb);
+            maxMb.accumulateAndGet(mb, Math::max);
+        }
+
+        private long mean() {
+            long samples = count.get();
+            return samples == 0 ? 0 : sumMb.get() / samples;
+        }
+
+        private String summary() {
+            return "n=" + count.get() + " mean=" + mean() + "MB max=" + maxMb.get() + "MB";
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.testautomation.core.driver;
+
+import com.testautomation.utils.common.LoggerUtil;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.interactions.Interactive;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * WebDriver proxy that starts the real browser session on the first WebDriver call.
+ *
+ * Tests that never touch the browser cost no session at all. quit() and close() on a proxy
+ * that was never used do nothing. The first-use callback (auto-navigation to base.url) is
+ * skipped when the call that starts the session is itself a get() or navigate(), so the
+ * browser does not load two pages.
+ *
+ * The proxy implements JavascriptExecutor, TakesScreenshot, Interactive and HasCapabilities,
+ * which every supported browser driver provides, so it works with Actions, WaitUtils and
+ * ScreenshotUtils. Browser-specific interfaces are available through getWrappedDriver().
+ */
+public final class LazyWebDriver implements InvocationHandler {
+
+    private final Supplier<WebDriver> launcher;
+    private final Consumer<WebDriver> onFirstUse;
+    private volatile WebDriver delegate;
+
+    private LazyWebDriver(Supplier<WebDriver> launcher, Consumer<WebDriver> onFirstUse) {
+        this.launcher = launcher;
+        this.onFirstUse = onFirstUse;
+    }
+
+    /**
+     * Create a lazy driver
+     * @param launcher starts the real session
+     * @param onFirstUse runs on the real session right after launch unless the first call navigates
+     * @return a proxy that launches the session on first use
+     */
+    public static WebDriver create(Supplier<WebDriver> launcher, Consumer<WebDriver> onFirstUse) {
+        return (WebDriver) Proxy.newProxyInstance(
+            LazyWebDriver.class.getClassLoader(),
+            new Class<?>[]{WebDriver.class, JavascriptExecutor.class, TakesScreenshot.class,
+                Interactive.class, HasCapabilities.class, WrapsDriver.class},
+            new LazyWebDriver(launcher, onFirstUse));
+    }
+
+    /**
+     * Check whether a driver has a running browser session
+     * @return false only for a lazy driver that has not been used yet
+     */
+    public static boolean isMaterialized(WebDriver driver) {
+        if (driver != null && Proxy.isProxyClass(driver.getClass())
+            && Proxy.getInvocationHandler(driver) instanceof LazyWebDriver) {
+            return ((LazyWebDriver) Proxy.getInvocationHandler(driver)).delegate != null;
+        }
+        return driver != null;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        String name = method.getName();
+        if (method.getDeclaringClass() == Object.class) {
+            switch (name) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    return "LazyWebDriver[" + (delegate == null ? "not started" : delegate) + "]";
+            }
+        }
+        if (delegate == null && ("quit".equals(name) || "close".equals(name))) {
+            return null;
+        }
+
+        WebDriver target = materialize(name);
+        if ("getWrappedDriver".equals(name)) {
+            return target;
+        }
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private synchronized WebDriver materialize(String firstCall) {
+        if (delegate == null) {
+            long start = System.currentTimeMillis();
+            WebDriver session = launcher.get();
+            delegate = session;
+            LoggerUtil.info("Browser session started on first use (" + firstCall + ") in "
+                + (System.currentTimeMillis() - start) + "ms");
+            if (onFirstUse != null && !"get".equals(firstCall) && !"navigate".equals(firstCall)) {
+                onFirstUse.accept(session);
+            }
+        }
+        return delegate;
+    }
+}
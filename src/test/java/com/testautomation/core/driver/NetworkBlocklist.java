@@ -0,0 +1,289 @@
+package com.testautomation.core.driver;
+
+import com.testautomation.core.config.ConfigReader;
+import com.testautomation.utils.common.LoggerUtil;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.bidi.BiDi;
+import org.openqa.selenium.bidi.HasBiDi;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.JsonInput;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * Blocks requests for ads, analytics, fonts and other resources the tests never look at.
+ *
+ * Patterns come from network.blocklist.patterns and use the Chrome wildcard syntax, where '*'
+ * matches any sequence of characters, e.g. *doubleclick.net* or *.woff2.
+ * - Chrome and Edge: CDP Network.setBlockedURLs on the session's DevTools connection. This
+ *   covers the attached target only; requests of tabs and popups opened later are not blocked.
+ * - Firefox: WebDriver BiDi network intercepts, restricted with urlPatterns so that only requests
+ *   to blocked hosts pause in beforeRequestSent; all other requests are never held up. BiDi URL
+ *   patterns match host names exactly, without wildcards, so only host patterns such as
+ *   *doubleclick.net* are blocked: their domain is intercepted up front, and any subdomain seen
+ *   in a request is intercepted from then on (that first request goes through). Patterns that do
+ *   not name a host, such as *.woff2, are not applied on Firefox; they are listed in a warning
+ *   on the first Firefox session. This needs the webSocketUrl capability, which
+ *   getFirefoxOptions() sets when the blocklist is enabled.
+ *
+ * Per-run statistics count blocked requests per pattern, and the requests and bytes that were
+ * allowed and transferred. Blocked requests never reach the network, so the bytes they would
+ * have cost are unknown and not reported.
+ */
+public final class NetworkBlocklist {
+
+    private static final AtomicInteger blockedRequests = new AtomicInteger(0);
+    private static final AtomicInteger transferredRequests = new AtomicInteger(0);
+    private static final AtomicLong transferredBytes = new AtomicLong(0);
+    private static final Map<String, AtomicInteger> blockedByPattern = new ConcurrentHashMap<>();
+    private static final AtomicBoolean skippedPatternsReported = new AtomicBoolean(false);
+
+    private static volatile List<String> patterns;
+    private static volatile List<Pattern> matchers;
+
+    private NetworkBlocklist() {
+    }
+
+    /**
+     * Check whether blocking is enabled and there is at least one pattern
+     */
+    public static boolean isEnabled() {
+        return ConfigReader.isNetworkBlocklistEnabled() && !getPatterns().isEmpty();
+    }
+
+    /**
+     * Install the blocklist on a new session; failures are logged and the session is used unblocked
+     * @param session the session to configure
+     */
+    public static void apply(WebDriver session) {
+        if (!isEnabled()) {
+            return;
+        }
+        try {
+            // Firefox also implements HasDevTools, prefer BiDi whenever the session has a BiDi connection
+            if (session instanceof HasBiDi && ((HasBiDi) session).maybeGetBiDi().isPresent()) {
+                applyWithBiDi(((HasBiDi) session).getBiDi());
+            } else if (session instanceof HasDevTools) {
+                applyWithCdp(((HasDevTools) session).getDevTools());
+            } else {
+                LoggerUtil.warning("Network blocklist not supported for " + session.getClass().getSimpleName());
+            }
+        } catch (Exception e) {
+            LoggerUtil.warning("Failed to apply network blocklist: " + e.getMessage());
+        }
+    }
+
+    private static void applyWithCdp(DevTools devTools) {
+        devTools.createSessionIfThereIsNotOne();
+        Map<String, String> requestUrls = new ConcurrentHashMap<>();
+
+        devTools.addListener(new Event<>("Network.requestWillBeSent", NetworkBlocklist::readMap), params -> {
+            Object request = params.get("request");
+            if (request instanceof Map) {
+                requestUrls.put(String.valueOf(params.get("requestId")), String.valueOf(((Map<?, ?>) request).get("url")));
+            }
+        });
+        devTools.addListener(new Event<>("Network.loadingFinished", NetworkBlocklist::readMap), params -> {
+            requestUrls.remove(String.valueOf(params.get("requestId")));
+            recordTransferred(params.get("encodedDataLength"));
+        });
+        devTools.addListener(new Event<>("Network.loadingFailed", NetworkBlocklist::readMap), params -> {
+            String url = requestUrls.remove(String.valueOf(params.get("requestId")));
+            if ("inspector".equals(params.get("blockedReason"))) {
+                recordBlocked(url);
+            }
+        });
+
+        devTools.send(new Command<>("Network.enable", Collections.emptyMap()));
+        devTools.send(new Command<>("Network.setBlockedURLs", Map.of("urls", getPatterns())));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void applyWithBiDi(BiDi bidi) {
+        Set<String> interceptedHosts = ConcurrentHashMap.newKeySet();
+        Set<String> hosts = new LinkedHashSet<>();
+        List<String> skipped = new ArrayList<>();
+        for (String pattern : getPatterns()) {
+            String host = toHostname(pattern);
+            if (host != null) {
+                hosts.add(host);
+            } else {
+                skipped.add(pattern);
+            }
+        }
+        if (!skipped.isEmpty() && skippedPatternsReported.compareAndSet(false, true)) {
+            LoggerUtil.warning("Network blocklist patterns not applied on Firefox, they do not name a host: "
+                + String.join(", ", skipped));
+        }
+        if (hosts.isEmpty()) {
+            LoggerUtil.warning("No network blocklist pattern names a host, nothing to block on Firefox");
+            return;
+        }
+        for (String host : hosts) {
+            interceptHost(bidi, host, interceptedHosts);
+        }
+
+        bidi.addListener(new org.openqa.selenium.bidi.Event<>("network.beforeRequestSent", params -> params), params -> {
+            Map<String, Object> request = (Map<String, Object>) params.get("request");
+            String url = String.valueOf(request.get("url"));
+            if (!Boolean.TRUE.equals(params.get("isBlocked"))) {
+                // Not intercepted: a subdomain of a blocked host is intercepted from the next request on
+                String host = hostOf(url);
+                if (host != null && !interceptedHosts.contains(host) && isHostBlocked(host)) {
+                    interceptHost(bidi, host, interceptedHosts);
+                }
+                return;
+            }
+            Map<String, Object> requestId = Map.of("request", request.get("request"));
+            try {
+                if (findPattern(url) != null) {
+                    bidi.send(new org.openqa.selenium.bidi.Command<>("network.failRequest", requestId));
+                    recordBlocked(url);
+                } else {
+                    bidi.send(new org.openqa.selenium.bidi.Command<>("network.continueRequest", requestId));
+                }
+            } catch (Exception e) {
+                // Request was cancelled or the session is closing
+            }
+        });
+        bidi.addListener(new org.openqa.selenium.bidi.Event<>("network.responseCompleted", params -> params), params -> {
+            Object response = params.get("response");
+            recordTransferred(response instanceof Map ? ((Map<?, ?>) response).get("bytesReceived") : null);
+        });
+    }
+
+    /**
+     * Pause requests to one host in beforeRequestSent
+     */
+    private static void interceptHost(BiDi bidi, String host, Set<String> interceptedHosts) {
+        if (!interceptedHosts.add(host)) {
+            return;
+        }
+        try {
+            bidi.send(new org.openqa.selenium.bidi.Command<>("network.addIntercept", Map.of(
+                "phases", List.of("beforeRequestSent"),
+                "urlPatterns", List.of(Map.of("type", "pattern", "hostname", host)))));
+        } catch (Exception e) {
+            interceptedHosts.remove(host);
+            LoggerUtil.warning("Failed to intercept requests to " + host + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * The host named by a wildcard pattern such as *doubleclick.net* or *.doubleclick.net
+     * @return the host name, or null if the pattern does not name a host
+     */
+    static String toHostname(String pattern) {
+        String host = pattern.replaceAll("^\\*+(://)?\\.?", "").replaceAll("/?\\*+$", "");
+        return host.matches("[A-Za-z0-9-]+(\\.[A-Za-z0-9-]+)+") ? host.toLowerCase() : null;
+    }
+
+    /**
+     * Check whether a pattern blocks every request to a host, not just some of its URLs
+     */
+    static boolean isHostBlocked(String host) {
+        return findPattern("https://" + host + "/") != null && findPattern("http://" + host + "/x.html") != null;
+    }
+
+    private static String hostOf(String url) {
+        try {
+            return URI.create(url).getHost();
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static Map<String, Object> readMap(JsonInput input) {
+        return input.read(Map.class);
+    }
+
+    private static void recordTransferred(Object bytes) {
+        transferredRequests.incrementAndGet();
+        if (bytes instanceof Number) {
+            transferredBytes.addAndGet(((Number) bytes).longValue());
+        }
+    }
+
+    private static void recordBlocked(String url) {
+        blockedRequests.incrementAndGet();
+        String pattern = url == null ? null : findPattern(url);
+        blockedByPattern.computeIfAbsent(pattern == null ? "(unknown)" : pattern, key -> new AtomicInteger(0))
+            .incrementAndGet();
+    }
+
+    /**
+     * Find the first configured pattern matching a URL
+     * @return the pattern, or null if the URL is allowed
+     */
+    static String findPattern(String url) {
+        List<String> configured = getPatterns();
+        for (int i = 0; i < configured.size(); i++) {
+            if (matchers.get(i).matcher(url).matches()) {
+                return configured.get(i);
+            }
+        }
+        return null;
+    }
+
+    private static List<String> getPatterns() {
+        if (patterns == null) {
+            synchronized (NetworkBlocklist.class) {
+                if (patterns == null) {
+                    List<String> configured = ConfigReader.getNetworkBlocklistPatterns();
+                    List<Pattern> compiled = new ArrayList<>();
+                    for (String pattern : configured) {
+                        compiled.add(toRegex(pattern));
+                    }
+                    matchers = compiled;
+                    patterns = configured;
+                }
+            }
+        }
+        return patterns;
+    }
+
+    /**
+     * Convert a wildcard pattern to a regular expression matching the whole URL
+     */
+    static Pattern toRegex(String wildcard) {
+        String[] parts = wildcard.split("\\*", -1);
+        StringBuilder regex = new StringBuilder();
+        for (int i = 0; i < parts.length; i++) {
+            if (i > 0) {
+                regex.append(".*");
+            }
+            regex.append(Pattern.quote(parts[i]));
+        }
+        return Pattern.compile(regex.toString());
+    }
+
+    /**
+     * Get blocked request statistics and the traffic of the requests that were allowed
+     * @return formatted string with current statistics
+     */
+    public static String getStatistics() {
+        StringBuilder stats = new StringBuilder();
+        stats.append("=== Network Blocklist Statistics ===\n");
+        stats.append("Blocked Requests: ").append(blockedRequests.get()).append("\n");
+        blockedByPattern.forEach((pattern, count) ->
+            stats.append("  ").append(pattern).append(": ").append(count.get()).append("\n"));
+        stats.append("Allowed Requests Transferred: ").append(transferredRequests.get()).append("\n");
+        stats.append("Allowed Bytes Transferred: ").append(transferredBytes.get() / 1024).append(" KB\n");
+        stats.append("====================================");
+        return stats.toString();
+    }
+}
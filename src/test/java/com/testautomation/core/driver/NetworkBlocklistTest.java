@@ -0,0 +1,44 @@
+package com.testautomation.core.driver;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Unit tests of the blocklist pattern matching against the patterns in config.properties.
+ */
+public class NetworkBlocklistTest {
+
+    @Test(description = "'*' matches any sequence and everything else matches literally")
+    public void testToRegex() {
+        Assert.assertTrue(NetworkBlocklist.toRegex("*doubleclick.net*").matcher("https://ad.doubleclick.net/ads?x=1").matches());
+        Assert.assertTrue(NetworkBlocklist.toRegex("*.woff2").matcher("https://demoqa.com/font.woff2").matches());
+        Assert.assertFalse(NetworkBlocklist.toRegex("*.woff").matcher("https://demoqa.com/fontwoff").matches());
+        Assert.assertFalse(NetworkBlocklist.toRegex("*.woff").matcher("https://demoqa.com/font.woff2").matches());
+        Assert.assertTrue(NetworkBlocklist.toRegex("*a+b(c)*").matcher("https://x/a+b(c)").matches());
+    }
+
+    @Test(description = "URLs are attributed to the first matching configured pattern")
+    public void testFindPattern() {
+        Assert.assertEquals(NetworkBlocklist.findPattern("https://pagead2.googlesyndication.com/pagead/show_ads.js"),
+            "*googlesyndication.com*");
+        Assert.assertEquals(NetworkBlocklist.findPattern("https://demoqa.com/fonts/Montserrat.woff2"), "*.woff2");
+        Assert.assertNull(NetworkBlocklist.findPattern("https://demoqa.com/elements"));
+    }
+
+    @Test(description = "Only patterns that name a whole host become BiDi host intercepts")
+    public void testToHostname() {
+        Assert.assertEquals(NetworkBlocklist.toHostname("*doubleclick.net*"), "doubleclick.net");
+        Assert.assertEquals(NetworkBlocklist.toHostname("*.Example.com"), "example.com");
+        Assert.assertEquals(NetworkBlocklist.toHostname("*://cdn.example.com/*"), "cdn.example.com");
+        Assert.assertNull(NetworkBlocklist.toHostname("*adservice.google.*"));
+        Assert.assertNull(NetworkBlocklist.toHostname("*.woff"));
+        Assert.assertNull(NetworkBlocklist.toHostname("*example.com/ads/*"));
+    }
+
+    @Test(description = "A host is blocked only if every URL on it is")
+    public void testIsHostBlocked() {
+        Assert.assertTrue(NetworkBlocklist.isHostBlocked("www.google-analytics.com"));
+        Assert.assertTrue(NetworkBlocklist.isHostBlocked("fonts.gstatic.com"));
+        Assert.assertFalse(NetworkBlocklist.isHostBlocked("demoqa.com"));
+    }
+}
@@ -0,0 +1,181 @@
+package com.testautomation.core.driver;
+
+import com.testautomation.core.config.ConfigReader;
+import com.testautomation.core.metrics.LatencyHistogram;
+import com.testautomation.enums.BrowserType;
+import com.testautomation.utils.common.LoggerUtil;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Holds back new browser sessions until the machine has room for them.
+ *
+ * The thread counts in the TestNG suites and the surefire configuration are fixed, so on a small
+ * agent they can start more browsers than fit in memory. Before each browser launch the controller
+ * checks:
+ * - MemAvailable from /proc/meminfo, minus the memory of sessions admitted but not launched yet,
+ *   must cover the expected session size plus driver.admission.memoryReserveMb. The expected size
+ *   is the mean RSS observed for the browser so far, driver.admission.sessionMb before that.
+ * - Only if driver.admission.maxLoadPerCpu is above 0 (off by default): the 1-minute load average
+ *   per CPU must not exceed it. The load average rises with the very launches the controller
+ *   admits and takes about a minute to decay, so this gate can hold back a parallel suite on a
+ *   healthy machine; memory is the reliable signal.
+ *
+ * Sessions wait until the checks hold, at most driver.admission.timeoutSeconds, after which they
+ * are admitted anyway so a suite cannot stall. Without /proc every session is admitted right away.
+ */
+public class SessionAdmissionController {
+
+    private static final SessionAdmissionController INSTANCE = new SessionAdmissionController();
+    private static final Path MEMINFO = Paths.get("/proc/meminfo");
+    private static final Path LOADAVG = Paths.get("/proc/loadavg");
+    private static final long POLL_MILLIS = 500;
+
+    private final LatencyHistogram admissionWaits = new LatencyHistogram();
+    private final AtomicInteger delayedSessions = new AtomicInteger(0);
+    private final AtomicInteger timedOutSessions = new AtomicInteger(0);
+    private long reservedMb = 0;
+
+    private SessionAdmissionController() {
+    }
+
+    public static SessionAdmissionController getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Block until a session of the given browser can be launched
+     * @param browserType the browser about to be launched
+     * @return memory reserved for the session in MB, to be passed to {@link #release(long)} once
+     * the browser is running or its launch failed
+     */
+    public long admit(BrowserType browserType) {
+        if (!ConfigReader.isDriverAdmissionEnabled() || !BrowserProcesses.isSupported()) {
+            return 0;
+        }
+        long expectedMb = expectedSessionMb(browserType);
+        long start = System.currentTimeMillis();
+        long deadline = start + ConfigReader.getDriverAdmissionTimeoutSeconds() * 1000L;
+        boolean delayed = false;
+
+        synchronized (this) {
+            String refusal;
+            while ((refusal = checkHeadroom(expectedMb)) != null) {
+                if (!delayed) {
+                    delayed = true;
+                    delayedSessions.incrementAndGet();
+                    LoggerUtil.info("Waiting for admission of " + browserType.getValue() + " session: " + refusal);
+                }
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    timedOutSessions.incrementAndGet();
+                    LoggerUtil.warning("Admitting " + browserType.getValue()
+                        + " session without headroom after waiting " + (System.currentTimeMillis() - start) + "ms");
+                    break;
+                }
+                try {
+                    wait(Math.min(POLL_MILLIS, remaining));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+            reservedMb += expectedMb;
+        }
+
+        long waited = System.currentTimeMillis() - start;
+        admissionWaits.record(waited);
+        if (delayed) {
+            LoggerUtil.info("Admitted " + browserType.getValue() + " session after waiting " + waited + "ms");
+        }
+        return expectedMb;
+    }
+
+    /**
+     * Drop the reservation of an admitted session
+     * @param mb the value returned by {@link #admit(BrowserType)}
+     */
+    public synchronized void release(long mb) {
+        if (mb > 0) {
+            reservedMb = Math.max(0, reservedMb - mb);
+            notifyAll();
+        }
+    }
+
+    /**
+     * @return why a session of the given size cannot start now, or null if it can
+     */
+    private String checkHeadroom(long expectedMb) {
+        long availableMb = readMemAvailableMb();
+        long neededMb = expectedMb + ConfigReader.getDriverAdmissionMemoryReserveMb();
+        if (availableMb >= 0 && availableMb - reservedMb < neededMb) {
+            return availableMb + "MB available, " + reservedMb + "MB reserved for launching sessions, "
+                + neededMb + "MB needed";
+        }
+        double maxLoadPerCpu = ConfigReader.getDriverAdmissionMaxLoadPerCpu();
+        if (maxLoadPerCpu <= 0) {
+            return null;
+        }
+        double loadPerCpu = readLoadAverage() / Runtime.getRuntime().availableProcessors();
+        if (loadPerCpu > maxLoadPerCpu) {
+            return String.format("load average %.2f per CPU", loadPerCpu);
+        }
+        return null;
+    }
+
+    /**
+     * Expected memory of a new session: the mean observed for the browser, or the configured estimate
+     */
+    private long expectedSessionMb(BrowserType browserType) {
+        long observed = DriverStartupMetrics.getMeanSessionRssMb(
+            browserType == BrowserType.EDGE ? "MicrosoftEdge" : browserType.getValue());
+        return observed > 0 ? observed : ConfigReader.getDriverAdmissionSessionMb();
+    }
+
+    /**
+     * @return MemAvailable in MB, or -1 if it cannot be read
+     */
+    private static long readMemAvailableMb() {
+        try {
+            for (String line : Files.readAllLines(MEMINFO, StandardCharsets.UTF_8)) {
+                if (line.startsWith("MemAvailable:")) {
+                    return Long.parseLong(line.substring("MemAvailable:".length()).trim().split("\\s+")[0]) / 1024;
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            // Fall through
+        }
+        return -1;
+    }
+
+    /**
+     * @return the 1-minute load average, or 0 if it cannot be read
+     */
+    private static double readLoadAverage() {
+        try {
+            return Double.parseDouble(new String(Files.readAllBytes(LOADAVG), StandardCharsets.UTF_8).split("\\s+")[0]);
+        } catch (IOException | RuntimeException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Get admission statistics
+     * @return formatted string with current statistics
+     */
+    public String getStatistics() {
+        StringBuilder stats = new StringBuilder();
+        stats.append("=== Session Admission Statistics ===\n");
+        stats.append("Sessions Admitted: ").append(admissionWaits.getCount()).append("\n");
+        stats.append("Delayed: ").append(delayedSessions.get()).append("\n");
+        stats.append("Admitted Without Headroom: ").append(timedOutSessions.get()).append("\n");
+        stats.append("Admission Wait: ").append(admissionWaits.summary()).append("\n");
+        stats.append("====================================");
+        return stats.toString();
+    }
+}
@@ -0,0 +1,61 @@
+package com.testautomation.core.driver;
+
+import com.testautomation.core.config.ConfigReader;
+import org.openqa.selenium.WebDriver;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decides when a long-lived pooled session should be retired and replaced.
+ *
+ * A session is retired when any configured limit is reached (0 disables a limit):
+ * - driver.recycle.maxLeases: number of tests the session has served
+ * - driver.recycle.maxAgeMinutes: time since the browser was launched
+ * - driver.recycle.maxRssMb: resident memory of the browser process tree, read from /proc
+ */
+public class SessionRecyclingPolicy {
+
+    private final int maxLeases;
+    private final long maxAgeMillis;
+    private final long maxRssKb;
+
+    public SessionRecyclingPolicy(int maxLeases, long maxAgeMinutes, long maxRssMb) {
+        this.maxLeases = maxLeases;
+        this.maxAgeMillis = TimeUnit.MINUTES.toMillis(maxAgeMinutes);
+        this.maxRssKb = maxRssMb * 1024;
+    }
+
+    /**
+     * Create the policy from config.properties
+     */
+    public static SessionRecyclingPolicy fromConfig() {
+        return new SessionRecyclingPolicy(
+            ConfigReader.getDriverRecycleMaxLeases(),
+            ConfigReader.getDriverRecycleMaxAgeMinutes(),
+            ConfigReader.getDriverRecycleMaxRssMb());
+    }
+
+    /**
+     * Check whether a session has reached one of the limits
+     * @param driver the session
+     * @param leaseCount number of times the session has been leased
+     * @param createdAt launch time of the session in epoch milliseconds
+     * @return the reason to retire the session, or null if it can be reused
+     */
+    public String getRetirementReason(WebDriver driver, int leaseCount, long createdAt) {
+        if (maxLeases > 0 && leaseCount >= maxLeases) {
+            return "served " + leaseCount + " leases";
+        }
+        long age = System.currentTimeMillis() - createdAt;
+        if (maxAgeMillis > 0 && age >= maxAgeMillis) {
+            return "age " + TimeUnit.MILLISECONDS.toMinutes(age) + " minutes";
+        }
+        if (maxRssKb > 0) {
+            long rssKb = BrowserProcesses.treeRssKb(driver);
+            if (rssKb >= maxRssKb) {
+                return "browser RSS " + (rssKb / 1024) + "MB";
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,253 @@
+package com.testautomation.core.driver;
+
+import com.testautomation.utils.common.LoggerUtil;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.HasCdp;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Brings a browser session back to a clean state between tests so it can be reused
+ * instead of being quit and relaunched.
+ *
+ * A reset closes every window but the first and clears cookies, localStorage, sessionStorage,
+ * IndexedDB, Cache Storage and service workers.
+ *
+ * On Chromium browsers the storage is cleared through the CDP Storage.clearDataForOrigin command
+ * for every origin the lease visited: the origins in the navigation history and frame tree of
+ * each window, and the domains of all cookies in the browser. The HTTP cache and cookies are
+ * then cleared browser-wide. Iframes of pages that were navigated away from and did not set a
+ * cookie are not found.
+ *
+ * Other browsers are cleaned with an in-page script, which can only reach the origin each window
+ * currently shows. Storage written by pages navigated away from survives into the next lease;
+ * test classes that depend on a clean slate across several origins should use TeardownMode.QUIT.
+ *
+ * Reset latency is tracked next to the launch and quit latency reported by WebDriverManager,
+ * so the cost of both paths can be compared at the end of the run.
+ */
+public class SessionResetter {
+
+    private static final String CLEAR_STORAGE_SCRIPT =
+        "var done = arguments[arguments.length - 1];" +
+        "var tasks = [];" +
+        "try { window.localStorage.clear(); } catch (e) {}" +
+        "try { window.sessionStorage.clear(); } catch (e) {}" +
+        "try { if (window.indexedDB && indexedDB.databases) {" +
+        "  tasks.push(indexedDB.databases().then(function (dbs) {" +
+        "    dbs.forEach(function (db) { indexedDB.deleteDatabase(db.name); }); })); } } catch (e) {}" +
+        "try { if (window.caches) {" +
+        "  tasks.push(caches.keys().then(function (keys) {" +
+        "    return Promise.all(keys.map(function (key) { return caches.delete(key); })); })); } } catch (e) {}" +
+        "try { if (navigator.serviceWorker) {" +
+        "  tasks.push(navigator.serviceWorker.getRegistrations().then(function (regs) {" +
+        "    return Promise.all(regs.map(function (reg) { return reg.unregister(); })); })); } } catch (e) {}" +
+        "Promise.all(tasks).then(function () { done(true); }, function () { done(false); });";
+
+    private static final AtomicInteger resetCount = new AtomicInteger(0);
+    private static final AtomicLong resetMillis = new AtomicLong(0);
+    private static final AtomicInteger launchCount = new AtomicInteger(0);
+    private static final AtomicLong launchMillis = new AtomicLong(0);
+    private static final AtomicInteger quitCount = new AtomicInteger(0);
+    private static final AtomicLong quitMillis = new AtomicLong(0);
+
+    private SessionResetter() {
+    }
+
+    /**
+     * Reset the session state
+     * @param driver the session to reset
+     * @return true if the session is clean and can be reused, false otherwise
+     */
+    public static boolean reset(WebDriver driver) {
+        long start = System.currentTimeMillis();
+        try {
+            if (driver instanceof HasCdp) {
+                HasCdp cdp = (HasCdp) driver;
+                Set<String> origins = new LinkedHashSet<>();
+                forEachWindow(driver, () -> collectVisitedOrigins(cdp, origins));
+                closeExtraWindows(driver);
+                clearWithCdp(cdp, origins);
+            } else {
+                forEachWindow(driver, () -> clearWithScript(driver));
+                closeExtraWindows(driver);
+            }
+            driver.manage().deleteAllCookies();
+            driver.get("about:blank");
+
+            resetCount.incrementAndGet();
+            resetMillis.addAndGet(System.currentTimeMillis() - start);
+            return true;
+        } catch (Exception e) {
+            LoggerUtil.warning("Session reset failed: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Close all windows except the first one and switch to it
+     */
+    private static void closeExtraWindows(WebDriver driver) {
+        List<String> handles = new ArrayList<>(driver.getWindowHandles());
+        for (int i = 1; i < handles.size(); i++) {
+            driver.switchTo().window(handles.get(i));
+            driver.close();
+        }
+        if (!handles.isEmpty()) {
+            driver.switchTo().window(handles.get(0));
+        }
+    }
+
+    /**
+     * Run an action in every open window
+     */
+    private static void forEachWindow(WebDriver driver, Runnable action) {
+        for (String handle : driver.getWindowHandles()) {
+            driver.switchTo().window(handle);
+            action.run();
+        }
+    }
+
+    private static void clearWithCdp(HasCdp cdp, Set<String> origins) {
+        collectCookieOrigins(cdp, origins);
+        for (String origin : origins) {
+            cdp.executeCdpCommand("Storage.clearDataForOrigin", Map.of("origin", origin, "storageTypes", "all"));
+        }
+        cdp.executeCdpCommand("Network.clearBrowserCookies", Collections.emptyMap());
+        cdp.executeCdpCommand("Network.clearBrowserCache", Collections.emptyMap());
+    }
+
+    /**
+     * Collect the origins of the current window: every entry of its navigation history and
+     * every frame currently loaded
+     */
+    @SuppressWarnings("unchecked")
+    private static void collectVisitedOrigins(HasCdp cdp, Set<String> origins) {
+        Map<String, Object> history = cdp.executeCdpCommand("Page.getNavigationHistory", Collections.emptyMap());
+        Object entries = history.get("entries");
+        if (entries instanceof List) {
+            for (Object entry : (List<Object>) entries) {
+                addOrigin(String.valueOf(((Map<String, Object>) entry).get("url")), origins);
+            }
+        }
+        Map<String, Object> result = cdp.executeCdpCommand("Page.getFrameTree", Collections.emptyMap());
+        collectFrameOrigins((Map<String, Object>) result.get("frameTree"), origins);
+    }
+
+    /**
+     * Add an http and https origin for the domain of every cookie in the browser, which also
+     * covers sites only loaded in iframes
+     */
+    @SuppressWarnings("unchecked")
+    private static void collectCookieOrigins(HasCdp cdp, Set<String> origins) {
+        Map<String, Object> result = cdp.executeCdpCommand("Network.getAllCookies", Collections.emptyMap());
+        Object cookies = result.get("cookies");
+        if (cookies instanceof List) {
+            for (Object cookie : (List<Object>) cookies) {
+                String domain = String.valueOf(((Map<String, Object>) cookie).get("domain"));
+                String host = domain.startsWith(".") ? domain.substring(1) : domain;
+                if (!host.isEmpty()) {
+                    origins.add("https://" + host);
+                    origins.add("http://" + host);
+                }
+            }
+        }
+    }
+
+    /**
+     * Add the origin of an http(s) URL
+     */
+    static void addOrigin(String url, Set<String> origins) {
+        try {
+            URI uri = URI.create(url);
+            if (uri.getScheme() != null && uri.getScheme().startsWith("http") && uri.getHost() != null) {
+                origins.add(uri.getScheme() + "://" + uri.getHost() + (uri.getPort() == -1 ? "" : ":" + uri.getPort()));
+            }
+        } catch (IllegalArgumentException e) {
+            // Not a URL, e.g. a data: URL with illegal characters
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void collectFrameOrigins(Map<String, Object> frameTree, Set<String> origins) {
+        if (frameTree == null) {
+            return;
+        }
+        Map<String, Object> frame = (Map<String, Object>) frameTree.get("frame");
+        Object origin = frame == null ? null : frame.get("securityOrigin");
+        if (origin instanceof String && ((String) origin).startsWith("http")) {
+            origins.add((String) origin);
+        }
+        Object children = frameTree.get("childFrames");
+        if (children instanceof List) {
+            for (Object child : (List<Object>) children) {
+                collectFrameOrigins((Map<String, Object>) child, origins);
+            }
+        }
+    }
+
+    private static void clearWithScript(WebDriver driver) {
+        if (driver instanceof JavascriptExecutor && driver.getCurrentUrl().startsWith("http")) {
+            ((JavascriptExecutor) driver).executeAsyncScript(CLEAR_STORAGE_SCRIPT);
+        }
+    }
+
+    /**
+     * Record how long a browser launch took, for comparison with the reset path
+     */
+    public static void recordLaunch(long millis) {
+        launchCount.incrementAndGet();
+        launchMillis.addAndGet(millis);
+    }
+
+    /**
+     * Record how long a browser quit took, for comparison with the reset path
+     */
+    public static void recordQuit(long millis) {
+        quitCount.incrementAndGet();
+        quitMillis.addAndGet(millis);
+    }
+
+    public static long getAverageResetMillis() {
+        return average(resetMillis.get(), resetCount.get());
+    }
+
+    public static long getAverageRelaunchMillis() {
+        return average(launchMillis.get(), launchCount.get()) + average(quitMillis.get(), quitCount.get());
+    }
+
+    private static long average(long total, int count) {
+        return count == 0 ? 0 : total / count;
+    }
+
+    /**
+     * Get reset versus quit-and-relaunch latency statistics
+     * @return formatted string with current statistics
+     */
+    public static String getStatistics() {
+        StringBuilder stats = new StringBuilder();
+        stats.append("=== Session Reset Statistics ===\n");
+        stats.append("Resets: ").append(resetCount.get())
+            .append(" (avg ").append(getAverageResetMillis()).append("ms)\n");
+        stats.append("Launches: ").append(launchCount.get())
+            .append(" (avg ").append(average(launchMillis.get(), launchCount.get())).append("ms)\n");
+        stats.append("Quits: ").append(quitCount.get())
+            .append(" (avg ").append(average(quitMillis.get(), quitCount.get())).append("ms)\n");
+        stats.append("Average Quit + Relaunch: ").append(getAverageRelaunchMillis()).append("ms\n");
+        if (resetCount.get() > 0 && launchCount.get() > 0) {
+            stats.append("Time Saved Per Reset: ")
+                .append(getAverageRelaunchMillis() - getAverageResetMillis()).append("ms\n");
+        }
+        stats.append("================================");
+        return stats.toString();
+    }
+}
@@ -0,0 +1,59 @@
+package com.testautomation.core.driver;
+
+import org.openqa.selenium.chrome.ChromeDriverService;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ChromeDriverService that is shared by many ChromeDriver sessions.
+ *
+ * Selenium stops the service of a ChromeDriver when that driver quits. A shared service must
+ * outlive every single session, so stop() and close() are ignored here and the service is only
+ * stopped by DriverServiceRegistry through {@link #shutdown()}.
+ */
+class SharedChromeDriverService extends ChromeDriverService {
+
+    SharedChromeDriverService(File executable, int port, Duration timeout,
+                              List<String> args, Map<String, String> environment) throws IOException {
+        super(executable, port, timeout, args, environment);
+    }
+
+    /**
+     * Builder producing SharedChromeDriverService instances
+     */
+    static ChromeDriverService.Builder builder() {
+        return new ChromeDriverService.Builder() {
+            @Override
+            protected ChromeDriverService createDriverService(File exe, int port, Duration timeout,
+                                                              List<String> args, Map<String, String> environment) {
+                try {
+                    return new SharedChromeDriverService(exe, port, timeout, args, environment);
+                } catch (IOException e) {
+                    throw new IllegalStateException("Failed to create shared ChromeDriverService", e);
+                }
+            }
+        };
+    }
+
+    @Override
+    public void stop() {
+        // Lifecycle is owned by DriverServiceRegistry, sessions must not stop the shared process
+    }
+
+    @Override
+    public void close() {
+        // Lifecycle is owned by DriverServiceRegistry
+    }
+
+    /**
+     * Stop the chromedriver process for real
+     */
+    void shutdown() {
+        super.stop();
+        super.close();
+    }
+}
@@ -2,27 +2,53 @@ package com.testautomation.core.driver;
 
 import com.testautomation.core.exceptions.WebDriverException;
 import com.testautomation.core.config.ConfigReader;
+import com.testautomation.core.driver.DriverStartupMetrics.Phase;
+import com.testautomation.enums.BrowserMode;
 import com.testautomation.enums.BrowserType;
 import com.testautomation.utils.common.LoggerUtil;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.PageLoadStrategy;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeDriverService;
 import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.chromium.ChromiumOptions;
 import org.openqa.selenium.edge.EdgeDriver;
+import org.openqa.selenium.edge.EdgeDriverService;
 import org.openqa.selenium.edge.EdgeOptions;
 import org.openqa.selenium.firefox.FirefoxDriver;
+import org.openqa.selenium.firefox.GeckoDriverService;
+import org.openqa.selenium.remote.service.DriverService;
 import org.openqa.selenium.firefox.FirefoxOptions;
 import org.openqa.selenium.safari.SafariDriver;
 import org.openqa.selenium.safari.SafariOptions;
+import java.io.File;
+import java.io.IOException;
 import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 public class WebDriverManager {
+    // Options built once per browser for the profile in browser.profile; never handed out, only cloned
+    private static final Map<BrowserType, Capabilities> OPTION_TEMPLATES = new ConcurrentHashMap<>();
+    private static final BrowserOptionProfile PROFILE = BrowserOptionProfile.fromConfig();
+
     private WebDriver driver;
     
     // Add shutdown hook to ensure WebDriver cleanup on JVM shutdown
     static {
+        if (ConfigReader.isDriverOrphanSweepEnabled()) {
+            BrowserProcessRegistry.getInstance().sweepOrphans();
+        }
         Runtime.getRuntime().addShutdownHook(new Thread(() -> {
             LoggerUtil.info("JVM shutdown detected, ensuring WebDriver cleanup...");
+            WebDriverPool.getInstance().shutdown();
+            DriverReaper.getInstance().drain(ConfigReader.getDriverReaperDrainTimeoutSeconds());
+            BrowserContextManager.getInstance().shutdown();
+            DriverServiceRegistry.getInstance().shutdown();
+            // Kill whatever did not exit gracefully
+            BrowserProcessRegistry.getInstance().killRemaining();
         }));
     }
 
@@ -33,7 +59,17 @@ public class WebDriverManager {
             }
             
             BrowserType browserType = BrowserType.fromString(browserName);
-            driver = createDriver(browserType);
+            Capabilities options = createOptions(browserType);
+            if (ConfigReader.isBrowserContextsEnabled() && browserType == BrowserType.CHROME) {
+                // Isolated context inside a shared Chrome instead of a browser of its own
+                driver = BrowserContextManager.getInstance().openContext(
+                    () -> createDriver(browserType, options), this::attachChromeDriver);
+            } else if (ConfigReader.isDriverPoolEnabled()) {
+                driver = WebDriverPool.getInstance().lease(browserType, options,
+                    () -> createDriver(browserType, options));
+            } else {
+                driver = createDriver(browserType, options);
+            }
             LoggerUtil.info("WebDriver initialized successfully for browser: " + browserName);
             return driver;
         } catch (WebDriverException e) {
@@ -46,36 +82,156 @@ public class WebDriverManager {
         }
     }
 
-    private WebDriver createDriver(BrowserType browserType) {
+    /**
+     * Launch a session and park it in the WebDriverPool so a later initiateDriver() call gets a warm browser
+     * @param browserName the browser to launch
+     * @return true if the pool accepted the session, false if it was full and the session was quit
+     */
+    public boolean prewarmSession(String browserName) {
+        BrowserType browserType = BrowserType.fromString(browserName);
+        Capabilities options = createOptions(browserType);
+        WebDriver session = createDriver(browserType, options);
+        if (!WebDriverPool.getInstance().offer(browserType, options, session)) {
+            quitSession(session);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Options for a new session, cloned from the browser's template so every session gets its own copy.
+     * The OPTIONS startup phase times building the template, which happens once per browser;
+     * the clone itself is not timed.
+     */
+    private Capabilities createOptions(BrowserType browserType) {
+        Capabilities template = OPTION_TEMPLATES.computeIfAbsent(browserType,
+            type -> DriverStartupMetrics.time(type, Phase.OPTIONS, () -> buildOptions(type)));
+        switch (browserType) {
+            case CHROME:
+                return new ChromeOptions().merge(template);
+            case FIREFOX:
+                return new FirefoxOptions().merge(template);
+            case EDGE:
+                return new EdgeOptions().merge(template);
+            case SAFARI:
+                return new SafariOptions().merge(template);
+            default:
+                throw new WebDriverException("Unsupported browser type: " + browserType);
+        }
+    }
+
+    private Capabilities buildOptions(BrowserType browserType) {
+        LoggerUtil.info("Building " + browserType.getValue() + " options template for profile " + PROFILE.getName());
+        switch (browserType) {
+            case CHROME:
+                return getChromeOptions();
+            case FIREFOX:
+                return getFirefoxOptions();
+            case EDGE:
+                return getEdgeOptions();
+            case SAFARI:
+                return getSafariOptions();
+            default:
+                throw new WebDriverException("Unsupported browser type: " + browserType);
+        }
+    }
+
+    private WebDriver createDriver(BrowserType browserType, Capabilities options) {
+        DriverCircuitBreaker.getInstance().beforeCreate(browserType);
+        long reservedMb = SessionAdmissionController.getInstance().admit(browserType);
+        WebDriver session = null;
+        boolean created = false;
         try {
+            long start = System.currentTimeMillis();
             switch (browserType) {
                 case CHROME:
-                    return createChromeDriver();
+                    session = createChromeDriver((ChromeOptions) options);
+                    break;
                 case FIREFOX:
-                    return createFirefoxDriver();
+                    session = createFirefoxDriver((FirefoxOptions) options);
+                    break;
                 case EDGE:
-                    return createEdgeDriver();
+                    session = createEdgeDriver((EdgeOptions) options);
+                    break;
                 case SAFARI:
-                    return createSafariDriver();
+                    session = createSafariDriver((SafariOptions) options);
+                    break;
                 default:
                     throw new WebDriverException("Unsupported browser type: " + browserType);
             }
+            BrowserProcessRegistry.getInstance().register(session);
+            if (!isAttached(options)) {
+                // An attached context session starts on another test's tab; BrowserContextManager
+                // applies the blocklist once it has switched to its own
+                PROFILE.applyNetworkConditions(session);
+                NetworkBlocklist.apply(session);
+            }
+            SessionResetter.recordLaunch(System.currentTimeMillis() - start);
+            // Only a session that completed every post-create step counts as a success
+            DriverCircuitBreaker.getInstance().recordSuccess(browserType);
+            created = true;
+            return session;
         } catch (Exception e) {
+            DriverCircuitBreaker.getInstance().recordFailure(browserType, e);
             throw new WebDriverException("WebDriver", 
                 "Failed to create driver for browser type: " + browserType, e);
+        } finally {
+            if (!created) {
+                // recordFailure() has already run for Exceptions; an Error must not leave the probe taken
+                DriverCircuitBreaker.getInstance().releaseProbe(browserType);
+                if (session != null) {
+                    // A post-create step failed: the browser is running but nobody will ever quit it
+                    quitQuietly(session);
+                }
+            }
+            SessionAdmissionController.getInstance().release(reservedMb);
         }
     }
 
-    private WebDriver createChromeDriver() {
+    private void quitQuietly(WebDriver session) {
         try {
-            // Create ChromeDriverService with explicit path for better macOS compatibility
-            ChromeDriverService chromeService = ChromeDriverService.createDefaultService();
-            ChromeDriver driver = new ChromeDriver(chromeService, getChromeOptions());
+            quitSession(session);
+        } catch (Exception e) {
+            LoggerUtil.error("Failed to quit half-initialized WebDriver session", e);
+        }
+    }
+
+    private WebDriver createChromeDriver(ChromeOptions options) {
+        try {
+            ChromeDriver driver;
+            if (ConfigReader.isDriverServiceShared() || isAttached(options)) {
+                // Multiplex over the long-lived chromedriver process instead of spawning one per session.
+                // Sessions attached to a context host always do, there can be dozens of them per host
+                DriverServiceRegistry registry = DriverServiceRegistry.getInstance();
+                ChromeDriverService chromeService = registry.acquireChromeService(options);
+                try {
+                    ChromeOptions sessionOptions = isAttached(options)
+                        ? options
+                        : withBinary(options, registry.getChromeBrowserPath());
+                    driver = launch(BrowserType.CHROME, () -> new ChromeDriver(chromeService, sessionOptions));
+                } catch (RuntimeException e) {
+                    registry.releaseSlot(chromeService);
+                    throw e;
+                }
+                registry.register(driver, chromeService);
+            } else {
+                // Create ChromeDriverService with explicit path for better macOS compatibility
+                ChromeDriverService chromeService = new ChromeDriverService.Builder()
+                    .withEnvironment(BrowserProcessRegistry.getInstance().getOwnerEnvironment())
+                    .build();
+                ChromeOptions sessionOptions = withBinary(options, resolveBinaries(BrowserType.CHROME, chromeService, options));
+                startService(BrowserType.CHROME, chromeService);
+                driver = launch(BrowserType.CHROME, () -> new ChromeDriver(chromeService, sessionOptions));
+            }
             
             // Set timeouts from configuration
-            driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(ConfigReader.getImplicitWait()));
-            driver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(ConfigReader.getPageLoadTimeout()));
-            driver.manage().timeouts().scriptTimeout(Duration.ofSeconds(30)); // Default script timeout
+            WebDriver.Timeouts timeouts = driver.manage().timeouts();
+            DriverStartupMetrics.time(BrowserType.CHROME, Phase.IMPLICIT_WAIT,
+                () -> timeouts.implicitlyWait(Duration.ofSeconds(ConfigReader.getImplicitWait())));
+            DriverStartupMetrics.time(BrowserType.CHROME, Phase.PAGE_LOAD_TIMEOUT,
+                () -> timeouts.pageLoadTimeout(Duration.ofSeconds(ConfigReader.getPageLoadTimeout())));
+            DriverStartupMetrics.time(BrowserType.CHROME, Phase.SCRIPT_TIMEOUT,
+                () -> timeouts.scriptTimeout(Duration.ofSeconds(30))); // Default script timeout
             
             return driver;
         } catch (Exception e) {
@@ -84,29 +240,123 @@ public class WebDriverManager {
         }
     }
 
-    private WebDriver createFirefoxDriver() {
+    /**
+     * Copy of the options with the resolved browser binary, unless the options already name one
+     */
+    private ChromeOptions withBinary(ChromeOptions options, String browserPath) {
+        if (browserPath == null || hasBinary(options, ChromeOptions.CAPABILITY)) {
+            return options;
+        }
+        ChromeOptions copy = new ChromeOptions().merge(options);
+        copy.setBinary(browserPath);
+        return copy;
+    }
+
+    /**
+     * Create a ChromeDriver session on an already running Chrome, with the same circuit breaker,
+     * admission and process tracking as a launched session
+     * @param debuggerAddress host:port of the browser's remote debugging endpoint
+     */
+    private WebDriver attachChromeDriver(String debuggerAddress) {
+        ChromeOptions options = new ChromeOptions();
+        options.setExperimentalOption("debuggerAddress", debuggerAddress);
+        options.setPageLoadStrategy(getPageLoadStrategy());
+        return createDriver(BrowserType.CHROME, options);
+    }
+
+    /**
+     * Check whether the options attach to a running Chrome instead of launching one
+     */
+    private static boolean isAttached(Capabilities options) {
+        Object chromeOptions = options.asMap().get(ChromeOptions.CAPABILITY);
+        return chromeOptions instanceof Map && ((Map<?, ?>) chromeOptions).containsKey("debuggerAddress");
+    }
+
+    private boolean hasBinary(Capabilities options, String vendorCapability) {
+        Object vendorOptions = options.asMap().get(vendorCapability);
+        return vendorOptions instanceof Map && ((Map<?, ?>) vendorOptions).containsKey("binary");
+    }
+
+    /**
+     * Resolve the driver binary, and the browser binary if Selenium Manager reports one, ahead of
+     * the driver constructor so the lookup is timed on its own. Paths come from the on-disk
+     * DriverBinaryCache when possible. The constructor skips the lookup once the service has an executable.
+     * @return the browser binary path, or null to let the driver locate the browser
+     */
+    private String resolveBinaries(BrowserType browserType, DriverService service, Capabilities options) {
+        return DriverStartupMetrics.time(browserType, Phase.BINARY_RESOLUTION, () -> {
+            DriverBinaryCache.Binaries binaries = DriverBinaryCache.getInstance().resolve(browserType, service, options);
+            service.setExecutable(binaries.getDriverPath());
+            return binaries.getBrowserPath();
+        });
+    }
+
+    /**
+     * Start a driver service ahead of the driver constructor, which reuses the running service
+     */
+    private void startService(BrowserType browserType, DriverService service) {
+        long start = System.currentTimeMillis();
+        try {
+            service.start();
+        } catch (IOException e) {
+            throw new WebDriverException("DriverService", "Failed to start " + browserType.getValue() + " driver service", e);
+        }
+        DriverStartupMetrics.record(browserType, Phase.SERVICE_START, System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Run a driver constructor and record the browser launch and session handshake time
+     */
+    private <T extends WebDriver> T launch(BrowserType browserType, Supplier<T> constructor) {
+        long start = System.currentTimeMillis();
+        T session = constructor.get();
+        DriverStartupMetrics.recordLaunch(browserType, session, start, System.currentTimeMillis());
+        return session;
+    }
+
+    private WebDriver createFirefoxDriver(FirefoxOptions options) {
         try {
-            // GeckoDriverService firefoxService = GeckoDriverService.createDefaultService(); // This line was removed as per the new_code
-            return new FirefoxDriver(getFirefoxOptions());
+            // Tag geckodriver, and the Firefox it launches, so leftover processes can be found
+            GeckoDriverService firefoxService = new GeckoDriverService.Builder()
+                .withEnvironment(BrowserProcessRegistry.getInstance().getOwnerEnvironment())
+                .build();
+            String browserPath = resolveBinaries(BrowserType.FIREFOX, firefoxService, options);
+            FirefoxOptions sessionOptions = options;
+            if (browserPath != null && !hasBinary(options, FirefoxOptions.FIREFOX_OPTIONS)) {
+                sessionOptions = new FirefoxOptions().merge(options).setBinary(browserPath);
+            }
+            startService(BrowserType.FIREFOX, firefoxService);
+            FirefoxOptions launchOptions = sessionOptions;
+            return launch(BrowserType.FIREFOX, () -> new FirefoxDriver(firefoxService, launchOptions));
         } catch (Exception e) {
             throw new WebDriverException("FirefoxDriver", 
                 "Failed to create Firefox driver", e);
         }
     }
 
-    private WebDriver createEdgeDriver() {
+    private WebDriver createEdgeDriver(EdgeOptions options) {
         try {
-            // EdgeDriverService edgeService = EdgeDriverService.createDefaultService(); // This line was removed as per the new_code
-            return new EdgeDriver(getEdgeOptions());
+            EdgeDriverService edgeService = new EdgeDriverService.Builder()
+                .withEnvironment(BrowserProcessRegistry.getInstance().getOwnerEnvironment())
+                .build();
+            String browserPath = resolveBinaries(BrowserType.EDGE, edgeService, options);
+            EdgeOptions sessionOptions = options;
+            if (browserPath != null && !hasBinary(options, EdgeOptions.CAPABILITY)) {
+                sessionOptions = new EdgeOptions().merge(options);
+                sessionOptions.setBinary(browserPath);
+            }
+            startService(BrowserType.EDGE, edgeService);
+            EdgeOptions launchOptions = sessionOptions;
+            return launch(BrowserType.EDGE, () -> new EdgeDriver(edgeService, launchOptions));
         } catch (Exception e) {
             throw new WebDriverException("EdgeDriver", 
                 "Failed to create Edge driver", e);
         }
     }
 
-    private WebDriver createSafariDriver() {
+    private WebDriver createSafariDriver(SafariOptions options) {
         try {
-            return new SafariDriver(getSafariOptions());
+            return new SafariDriver(options);
         } catch (Exception e) {
             throw new WebDriverException("SafariDriver", 
                 "Failed to create Safari driver", e);
@@ -117,7 +367,6 @@ public class WebDriverManager {
         try {
             ChromeOptions options = new ChromeOptions();
             options.addArguments(
-                "--start-maximized",
                 "--disable-popup-blocking",
                 "--disable-logging",
                 "--disable-extensions",
@@ -129,11 +378,19 @@ public class WebDriverManager {
                 "--disable-features=VizDisplayCompositor",
                 "--disable-blink-features=AutomationControlled",
                 "--disable-infobars",
-                "--disable-notifications"
+                "--disable-notifications",
+                BrowserProcessRegistry.getInstance().getOwnerSwitch()
             );
-            if (ConfigReader.isHeadless()) {
+            options.setPageLoadStrategy(getPageLoadStrategy());
+            BrowserMode mode = getBrowserMode();
+            if (mode == BrowserMode.HEADLESS_SHELL) {
+                // chrome-headless-shell is always headless and has no --headless switch of its own
+                options.setBinary(findHeadlessShell());
+                addLowMemoryArguments(options);
+            } else if (mode == BrowserMode.HEADLESS) {
                 options.addArguments("--headless=new");
             }
+            PROFILE.applyTo(options, BrowserType.CHROME, mode.isHeadless());
             return options;
         } catch (Exception e) {
             throw new WebDriverException("ChromeOptions", 
@@ -144,9 +401,19 @@ public class WebDriverManager {
     private FirefoxOptions getFirefoxOptions() {
         try {
             FirefoxOptions options = new FirefoxOptions();
-            if (ConfigReader.isHeadless()) {
+            options.setPageLoadStrategy(getPageLoadStrategy());
+            BrowserMode mode = getBrowserMode();
+            if (mode.isHeadless()) {
                 options.addArguments("--headless");
             }
+            if (mode == BrowserMode.HEADLESS_SHELL) {
+                addLowMemoryPreferences(options);
+            }
+            PROFILE.applyTo(options, mode.isHeadless());
+            if (NetworkBlocklist.isEnabled()) {
+                // The blocklist is installed through a WebDriver BiDi network intercept
+                options.setCapability("webSocketUrl", true);
+            }
             return options;
         } catch (Exception e) {
             throw new WebDriverException("FirefoxOptions", 
@@ -157,9 +424,17 @@ public class WebDriverManager {
     private EdgeOptions getEdgeOptions() {
         try {
             EdgeOptions options = new EdgeOptions();
-            if (ConfigReader.isHeadless()) {
+            options.addArguments(BrowserProcessRegistry.getInstance().getOwnerSwitch());
+            options.setPageLoadStrategy(getPageLoadStrategy());
+            BrowserMode mode = getBrowserMode();
+            if (mode.isHeadless()) {
                 options.addArguments("--headless");
             }
+            if (mode == BrowserMode.HEADLESS_SHELL) {
+                // Edge has no headless shell build, run regular headless Edge with the same low-memory flags
+                addLowMemoryArguments(options);
+            }
+            PROFILE.applyTo(options, BrowserType.EDGE, mode.isHeadless());
             return options;
         } catch (Exception e) {
             throw new WebDriverException("EdgeOptions", 
@@ -167,6 +442,70 @@ public class WebDriverManager {
         }
     }
 
+    private BrowserMode getBrowserMode() {
+        return BrowserMode.fromString(ConfigReader.getBrowserMode());
+    }
+
+    /**
+     * Locate chrome-headless-shell from browser.headlessShell.path or the PATH
+     */
+    private String findHeadlessShell() {
+        String configured = ConfigReader.getHeadlessShellPath();
+        if (!configured.isEmpty()) {
+            return configured;
+        }
+        for (String directory : System.getenv().getOrDefault("PATH", "").split(File.pathSeparator)) {
+            File candidate = new File(directory, "chrome-headless-shell");
+            if (candidate.canExecute()) {
+                return candidate.getAbsolutePath();
+            }
+        }
+        throw new WebDriverException("ChromeOptions",
+            "browser.mode=headless-shell but chrome-headless-shell was not found; set browser.headlessShell.path");
+    }
+
+    /**
+     * Chromium switches that trade rendering features for a smaller memory footprint
+     */
+    private void addLowMemoryArguments(ChromiumOptions<?> options) {
+        options.addArguments(
+            "--renderer-process-limit=" + ConfigReader.getRendererProcessLimit(),
+            "--disable-gpu-compositing",
+            "--disable-site-isolation-trials",
+            "--disable-background-networking",
+            "--disable-component-update",
+            "--disable-default-apps",
+            "--no-first-run",
+            "--mute-audio"
+        );
+    }
+
+    /**
+     * Firefox preferences for a minimal headless profile with a smaller memory footprint
+     */
+    private void addLowMemoryPreferences(FirefoxOptions options) {
+        options.addPreference("dom.ipc.processCount", ConfigReader.getRendererProcessLimit());
+        options.addPreference("fission.autostart", false);
+        options.addPreference("layers.acceleration.disabled", true);
+        options.addPreference("browser.cache.disk.enable", false);
+        options.addPreference("browser.sessionhistory.max_total_viewers", 0);
+        options.addPreference("app.update.auto", false);
+        options.addPreference("extensions.update.enabled", false);
+        options.addPreference("browser.shell.checkDefaultBrowser", false);
+        options.addPreference("datareporting.policy.dataSubmissionEnabled", false);
+        options.addPreference("toolkit.telemetry.enabled", false);
+        options.addPreference("media.autoplay.default", 5);
+    }
+
+    private PageLoadStrategy getPageLoadStrategy() {
+        PageLoadStrategy strategy = PageLoadStrategy.fromString(ConfigReader.getPageLoadStrategy());
+        if (strategy == null) {
+            throw new WebDriverException("PageLoadStrategy",
+                "Unsupported browser.pageLoadStrategy: " + ConfigReader.getPageLoadStrategy());
+        }
+        return strategy;
+    }
+
     private SafariOptions getSafariOptions() {
         try {
             SafariOptions options = new SafariOptions();
@@ -177,11 +516,32 @@ public class WebDriverManager {
         }
     }
 
+    /**
+     * Hand the driver back to the WebDriverPool so the next test can reuse the warm session.
+     * Drivers that were not leased from the pool are quit.
+     */
+    public void releaseDriver() {
+        if (driver != null) {
+            try {
+                if (WebDriverPool.getInstance().release(driver)) {
+                    LoggerUtil.info("WebDriver returned to pool");
+                    driver = null;
+                    return;
+                }
+            } catch (Exception e) {
+                LoggerUtil.error("Failed to return WebDriver to pool", e);
+            }
+            quitDriver();
+        }
+    }
+
     public void quitDriver() {
         if (driver != null) {
             try {
-                // Close all windows and quit the driver
-                driver.quit();
+                // Close all windows and quit the driver, removing it from the pool if it was leased
+                if (!WebDriverPool.getInstance().invalidate(driver)) {
+                    quitSession(driver);
+                }
                 LoggerUtil.info("WebDriver quit successfully");
             } catch (Exception e) {
                 LoggerUtil.error("Failed to quit WebDriver", e);
@@ -199,8 +559,9 @@ public class WebDriverManager {
     public void forceQuitDriver() {
         if (driver != null) {
             try {
-                driver.close();
-                driver.quit();
+                if (!WebDriverPool.getInstance().invalidate(driver)) {
+                    quitSession(driver, true);
+                }
             } catch (Exception e) {
                 LoggerUtil.error("Force quit WebDriver failed", e);
             } finally {
@@ -209,6 +570,49 @@ public class WebDriverManager {
         }
     }
 
+    /**
+     * Quit a session, on the background reaper when driver.reaper.enabled is true
+     */
+    static void quitSession(WebDriver session) {
+        quitSession(session, false);
+    }
+
+    /**
+     * Quit a session, on the background reaper when driver.reaper.enabled is true
+     * @param force close the current window before quitting
+     */
+    static void quitSession(WebDriver session, boolean force) {
+        if (ConfigReader.isDriverReaperEnabled()) {
+            DriverReaper.getInstance().submit(session, force);
+            return;
+        }
+        if (force) {
+            try {
+                session.close();
+            } catch (Exception e) {
+                // quit() below still ends the session
+            }
+        }
+        quitNow(session);
+    }
+
+    /**
+     * Quit a session on the calling thread and release the shared driver service slot it was running on
+     */
+    static void quitNow(WebDriver session) {
+        DriverStartupMetrics.recordSessionRss(session);
+        long start = System.currentTimeMillis();
+        try {
+            session.quit();
+            SessionResetter.recordQuit(System.currentTimeMillis() - start);
+        } finally {
+            BrowserContextManager.getInstance().release(session);
+            DriverServiceRegistry.getInstance().release(session);
+            BrowserProcessRegistry.getInstance().unregister(session);
+            BrowserProcesses.forget(session);
+        }
+    }
+
     public WebDriver getDriver() {
         if (driver == null) {
             throw new WebDriverException("WebDriver", 
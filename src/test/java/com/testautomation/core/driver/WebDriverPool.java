@@ -0,0 +1,545 @@
+package com.testautomation.core.driver;
+
+import com.testautomation.core.config.ConfigReader;
+import com.testautomation.core.exceptions.WebDriverException;
+import com.testautomation.enums.BrowserType;
+import com.testautomation.utils.common.LoggerUtil;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.WebDriver;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Pool of warm WebDriver sessions shared by all test threads.
+ *
+ * Sessions are keyed by browser type and the capabilities they were created with,
+ * so a test only ever receives a browser that was launched with the same configuration it
+ * would have launched itself. Returned sessions are reset before they are handed out again.
+ *
+ * Sizing is controlled from config.properties:
+ * - driver.pool.minSize: idle sessions kept warm per key, never evicted. Missing ones are launched
+ *   in the background once the key has been leased and whenever sessions leave the pool
+ * - driver.pool.maxSize: upper bound of leased + idle sessions per key
+ * - driver.pool.leaseTimeoutSeconds: how long a lease waits for a free slot
+ * - driver.pool.idleTimeoutSeconds: idle time after which sessions above minSize are closed
+ *
+ * Idle sessions are probed with getWindowHandle() before they are handed out; a browser that died
+ * while idle is quit and the lease falls through to creating a new session.
+ *
+ * Returned sessions that reached a {@link SessionRecyclingPolicy} limit are retired. The retired
+ * browser is quit and its replacement is launched on a background thread, so the test thread
+ * that returned the session never waits for the swap.
+ */
+public class WebDriverPool {
+
+    private static final WebDriverPool INSTANCE = new WebDriverPool();
+
+    private final ConcurrentHashMap<PoolKey, KeyedPool> pools = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<WebDriver, PooledSession> leased = new ConcurrentHashMap<>();
+    private final SessionRecyclingPolicy recyclingPolicy = SessionRecyclingPolicy.fromConfig();
+    private final ExecutorService recycler = Executors.newFixedThreadPool(2, runnable -> {
+        Thread thread = new Thread(runnable, "driver-recycler");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Pool metrics
+    private final AtomicInteger hits = new AtomicInteger(0);
+    private final AtomicInteger misses = new AtomicInteger(0);
+    private final AtomicInteger leaseTimeouts = new AtomicInteger(0);
+    private final AtomicInteger sessionsCreated = new AtomicInteger(0);
+    private final AtomicInteger sessionsDestroyed = new AtomicInteger(0);
+    private final AtomicInteger resetFailures = new AtomicInteger(0);
+    private final AtomicInteger deadIdleSessions = new AtomicInteger(0);
+    private final AtomicInteger sessionsRetired = new AtomicInteger(0);
+    private final AtomicInteger replacementsCreated = new AtomicInteger(0);
+    private final AtomicInteger topUpsCreated = new AtomicInteger(0);
+    private final AtomicLong totalLeaseWaitMillis = new AtomicLong(0);
+
+    private volatile boolean shutdown = false;
+
+    private WebDriverPool() {
+        if (ConfigReader.isDriverPoolEnabled() && "quit".equalsIgnoreCase(ConfigReader.getDriverTeardownMode())) {
+            LoggerUtil.warning("driver.teardown.mode=quit quits every leased session, so the pool will never "
+                + "serve a warm one; use driver.teardown.mode=reset");
+        }
+    }
+
+    public static WebDriverPool getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Lease a session for the given browser type and options.
+     * A warm idle session is returned when one exists, otherwise the factory creates a new one.
+     *
+     * @param browserType the browser type of the session
+     * @param options the options the session must have been created with
+     * @param factory creates a new session on a pool miss
+     * @return a leased WebDriver that must be returned with {@link #release(WebDriver)}
+     */
+    public WebDriver lease(BrowserType browserType, Capabilities options, Supplier<WebDriver> factory) {
+        if (shutdown) {
+            throw new WebDriverException("WebDriverPool", "Cannot lease a session, the pool has been shut down");
+        }
+
+        PoolKey key = new PoolKey(browserType, options);
+        KeyedPool pool = pools.computeIfAbsent(key, k -> new KeyedPool());
+        pool.factory = factory;
+        evictIdleSessions(key, pool);
+
+        long waitStart = System.currentTimeMillis();
+        long deadline = waitStart + TimeUnit.SECONDS.toMillis(ConfigReader.getDriverPoolLeaseTimeoutSeconds());
+        try {
+            if (!pool.permits.tryAcquire(ConfigReader.getDriverPoolLeaseTimeoutSeconds(), TimeUnit.SECONDS)) {
+                leaseTimeouts.incrementAndGet();
+                throw new WebDriverException("WebDriverPool", "Timed out after "
+                    + ConfigReader.getDriverPoolLeaseTimeoutSeconds() + "s waiting for a pooled "
+                    + browserType.getValue() + " session (maxSize=" + pool.maxSize + ")");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WebDriverException("WebDriverPool", "Interrupted while waiting for a pooled session", e);
+        } finally {
+            totalLeaseWaitMillis.addAndGet(System.currentTimeMillis() - waitStart);
+        }
+
+        PooledSession session;
+        try {
+            session = takeIdleOrReserveSlot(pool, deadline);
+        } catch (RuntimeException e) {
+            pool.permits.release();
+            throw e;
+        }
+        if (session != null) {
+            hits.incrementAndGet();
+            LoggerUtil.info("WebDriverPool hit for " + key + " (idle left: " + pool.idle.size() + ")");
+        } else {
+            misses.incrementAndGet();
+            LoggerUtil.info("WebDriverPool miss for " + key + ", creating a new session");
+            try {
+                session = new PooledSession(key, factory.get());
+                sessionsCreated.incrementAndGet();
+            } catch (RuntimeException e) {
+                pool.total.decrementAndGet();
+                pool.permits.release();
+                throw e;
+            }
+        }
+
+        session.leaseCount++;
+        leased.put(session.driver, session);
+        topUp(key, pool);
+        return session.driver;
+    }
+
+    /**
+     * Take a live idle session, or reserve a slot for a new one. While every slot is held by sessions
+     * being retired or replaced in the background, wait for the replacement to become idle.
+     *
+     * @return an idle session, or null if a slot was reserved and the caller must create the session
+     */
+    private PooledSession takeIdleOrReserveSlot(KeyedPool pool, long deadline) {
+        while (true) {
+            PooledSession session = pool.idle.pollFirst();
+            if (session != null) {
+                if (isAlive(session)) {
+                    return session;
+                }
+                // Died while idle, e.g. killed under memory pressure: its slot is freed for a new session
+                deadIdleSessions.incrementAndGet();
+                LoggerUtil.warning("WebDriverPool discarding idle session for " + session.key + " that no longer responds");
+                destroy(pool, session);
+                continue;
+            }
+            if (reserveSlot(pool)) {
+                return null;
+            }
+            if (System.currentTimeMillis() >= deadline) {
+                leaseTimeouts.incrementAndGet();
+                throw new WebDriverException("WebDriverPool", "Timed out waiting for a replacement session (maxSize="
+                    + pool.maxSize + ")");
+            }
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new WebDriverException("WebDriverPool", "Interrupted while waiting for a pooled session", e);
+            }
+        }
+    }
+
+    /**
+     * Cheap round trip to check that the browser of an idle session is still there
+     */
+    private static boolean isAlive(PooledSession session) {
+        try {
+            session.driver.getWindowHandle();
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    /**
+     * Count a new session against maxSize before it is created
+     * @return false if the key already holds maxSize sessions
+     */
+    private static boolean reserveSlot(KeyedPool pool) {
+        while (true) {
+            int current = pool.total.get();
+            if (current >= pool.maxSize) {
+                return false;
+            }
+            if (pool.total.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Add an already created session to the idle queue, e.g. from a suite pre-warm step.
+     *
+     * @return true if the session was accepted, false if the pool is full for this key
+     */
+    public boolean offer(BrowserType browserType, Capabilities options, WebDriver driver) {
+        PoolKey key = new PoolKey(browserType, options);
+        KeyedPool pool = pools.computeIfAbsent(key, k -> new KeyedPool());
+        if (shutdown || !reserveSlot(pool)) {
+            return false;
+        }
+        sessionsCreated.incrementAndGet();
+        pool.idle.offerFirst(new PooledSession(key, driver));
+        return true;
+    }
+
+    /**
+     * Return a leased session to the pool after resetting its state.
+     * Sessions that reached a recycling limit are retired without a reset, since they are never
+     * reused; sessions that fail the reset are destroyed instead of being reused.
+     *
+     * @param driver the leased WebDriver
+     * @return true if the driver belonged to the pool, false otherwise
+     */
+    public boolean release(WebDriver driver) {
+        PooledSession session = driver == null ? null : leased.remove(driver);
+        if (session == null) {
+            return false;
+        }
+
+        KeyedPool pool = pools.get(session.key);
+        try {
+            String retirementReason = shutdown ? null
+                : recyclingPolicy.getRetirementReason(driver, session.leaseCount, session.createdAt);
+            if (retirementReason != null) {
+                retire(pool, session, retirementReason);
+            } else if (!shutdown && resetSession(driver)) {
+                session.idleSince = System.currentTimeMillis();
+                pool.idle.offerFirst(session);
+            } else {
+                destroy(pool, session);
+            }
+        } finally {
+            pool.permits.release();
+        }
+        evictIdleSessions(session.key, pool);
+        topUp(session.key, pool);
+        return true;
+    }
+
+    /**
+     * Remove a leased session from the pool and quit it, e.g. when a test decided the
+     * browser is no longer trustworthy.
+     *
+     * @return true if the driver belonged to the pool, false otherwise
+     */
+    public boolean invalidate(WebDriver driver) {
+        PooledSession session = driver == null ? null : leased.remove(driver);
+        if (session == null) {
+            return false;
+        }
+        KeyedPool pool = pools.get(session.key);
+        try {
+            destroy(pool, session);
+        } finally {
+            pool.permits.release();
+        }
+        topUp(session.key, pool);
+        return true;
+    }
+
+    /**
+     * Quit every idle session of one key and forget the key once it holds no sessions,
+     * e.g. so a test of the pool leaves no sessions behind
+     */
+    void drainIdle(BrowserType browserType, Capabilities options) {
+        PoolKey key = new PoolKey(browserType, options);
+        KeyedPool pool = pools.get(key);
+        if (pool == null) {
+            return;
+        }
+        PooledSession session;
+        while ((session = pool.idle.pollFirst()) != null) {
+            destroy(pool, session);
+        }
+        if (pool.total.get() == 0) {
+            pools.remove(key, pool);
+        }
+    }
+
+    /**
+     * Check if a driver is currently leased from this pool
+     */
+    public boolean isLeased(WebDriver driver) {
+        return driver != null && leased.containsKey(driver);
+    }
+
+    /**
+     * Quit every idle and leased session and refuse further leases.
+     * Permanent for this JVM, so only the JVM shutdown hook of WebDriverManager calls it.
+     */
+    public void shutdown() {
+        if (shutdown) {
+            return;
+        }
+        shutdown = true;
+        for (KeyedPool pool : pools.values()) {
+            PooledSession session;
+            while ((session = pool.idle.pollFirst()) != null) {
+                destroy(pool, session);
+            }
+        }
+        for (PooledSession session : leased.values()) {
+            destroy(pools.get(session.key), session);
+        }
+        leased.clear();
+        recycler.shutdownNow();
+        LoggerUtil.info("WebDriverPool shut down");
+        LoggerUtil.info(getStatistics());
+    }
+
+    /**
+     * Bring a returned session back to a clean state, see {@link SessionResetter}
+     */
+    private boolean resetSession(WebDriver driver) {
+        if (SessionResetter.reset(driver)) {
+            return true;
+        }
+        resetFailures.incrementAndGet();
+        LoggerUtil.warning("WebDriverPool discarding session that failed to reset");
+        return false;
+    }
+
+    /**
+     * Close idle sessions above minSize that have been idle longer than the idle timeout
+     */
+    private void evictIdleSessions(PoolKey key, KeyedPool pool) {
+        long idleTimeoutMillis = TimeUnit.SECONDS.toMillis(ConfigReader.getDriverPoolIdleTimeoutSeconds());
+        long now = System.currentTimeMillis();
+        Iterator<PooledSession> oldestFirst = pool.idle.descendingIterator();
+        while (pool.idle.size() > pool.minSize && oldestFirst.hasNext()) {
+            PooledSession session = oldestFirst.next();
+            if (now - session.idleSince < idleTimeoutMillis) {
+                break;
+            }
+            if (pool.idle.remove(session)) {
+                LoggerUtil.info("WebDriverPool evicting idle session for " + key);
+                destroy(pool, session);
+            }
+        }
+    }
+
+    /**
+     * Quit a session that reached a recycling limit and launch its replacement in the background
+     */
+    private void retire(KeyedPool pool, PooledSession session, String reason) {
+        sessionsRetired.incrementAndGet();
+        LoggerUtil.info("WebDriverPool retiring session for " + session.key + ": " + reason);
+        try {
+            recycler.submit(() -> {
+                destroy(pool, session);
+                if (replenish(session.key, pool)) {
+                    replacementsCreated.incrementAndGet();
+                }
+            });
+        } catch (Exception e) {
+            // Recycler already shut down
+            destroy(pool, session);
+        }
+    }
+
+    /**
+     * Launch idle sessions in the background until the key holds minSize of them,
+     * counting the launches still in progress
+     */
+    private void topUp(PoolKey key, KeyedPool pool) {
+        while (!shutdown && pool.idle.size() + pool.launching.get() < pool.minSize) {
+            pool.launching.incrementAndGet();
+            try {
+                recycler.submit(() -> {
+                    try {
+                        if (replenish(key, pool)) {
+                            topUpsCreated.incrementAndGet();
+                        }
+                    } finally {
+                        pool.launching.decrementAndGet();
+                    }
+                });
+            } catch (Exception e) {
+                // Recycler already shut down
+                pool.launching.decrementAndGet();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Launch one session for a key and park it as idle
+     * @return false if the pool is shut down or full for the key, or the launch failed
+     */
+    private boolean replenish(PoolKey key, KeyedPool pool) {
+        Supplier<WebDriver> factory = pool.factory;
+        if (shutdown || factory == null) {
+            return false;
+        }
+        if (!reserveSlot(pool)) {
+            return false;
+        }
+        try {
+            pool.idle.offerFirst(new PooledSession(key, factory.get()));
+            sessionsCreated.incrementAndGet();
+            return true;
+        } catch (Exception e) {
+            pool.total.decrementAndGet();
+            LoggerUtil.error("WebDriverPool failed to create idle session for " + key, e);
+            return false;
+        }
+    }
+
+    private void destroy(KeyedPool pool, PooledSession session) {
+        try {
+            WebDriverManager.quitSession(session.driver);
+        } catch (Exception e) {
+            LoggerUtil.error("WebDriverPool failed to quit session for " + session.key, e);
+        } finally {
+            if (pool != null) {
+                pool.total.decrementAndGet();
+            }
+            sessionsDestroyed.incrementAndGet();
+        }
+    }
+
+    public int getHitCount() {
+        return hits.get();
+    }
+
+    public int getMissCount() {
+        return misses.get();
+    }
+
+    /**
+     * Get current pool statistics
+     * @return formatted string with current statistics
+     */
+    public String getStatistics() {
+        int leases = hits.get() + misses.get();
+        double hitRate = leases == 0 ? 0 : (double) hits.get() / leases * 100;
+        StringBuilder stats = new StringBuilder();
+        stats.append("=== WebDriverPool Statistics ===\n");
+        stats.append("Leases: ").append(leases).append("\n");
+        stats.append("Hits: ").append(hits.get()).append("\n");
+        stats.append("Misses: ").append(misses.get()).append("\n");
+        stats.append("Hit Rate: ").append(String.format("%.2f", hitRate)).append("%\n");
+        stats.append("Lease Timeouts: ").append(leaseTimeouts.get()).append("\n");
+        stats.append("Average Lease Wait: ")
+            .append(leases == 0 ? 0 : totalLeaseWaitMillis.get() / leases).append("ms\n");
+        stats.append("Sessions Created: ").append(sessionsCreated.get()).append("\n");
+        stats.append("Sessions Destroyed: ").append(sessionsDestroyed.get()).append("\n");
+        stats.append("Reset Failures: ").append(resetFailures.get()).append("\n");
+        stats.append("Dead Idle Sessions: ").append(deadIdleSessions.get()).append("\n");
+        stats.append("Sessions Retired: ").append(sessionsRetired.get()).append("\n");
+        stats.append("Replacements Created: ").append(replacementsCreated.get()).append("\n");
+        stats.append("Top-Ups Created: ").append(topUpsCreated.get()).append("\n");
+        for (Map.Entry<PoolKey, KeyedPool> entry : pools.entrySet()) {
+            stats.append("  ").append(entry.getKey()).append(": total=").append(entry.getValue().total.get())
+                .append(", idle=").append(entry.getValue().idle.size()).append("\n");
+        }
+        stats.append("================================");
+        return stats.toString();
+    }
+
+    /**
+     * Identifies interchangeable sessions: same browser type, same capabilities
+     */
+    static final class PoolKey {
+        private final BrowserType browserType;
+        private final Map<String, Object> capabilities;
+
+        PoolKey(BrowserType browserType, Capabilities options) {
+            this.browserType = browserType;
+            this.capabilities = options == null
+                ? Collections.emptyMap()
+                : Collections.unmodifiableMap(new HashMap<>(options.asMap()));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof PoolKey)) return false;
+            PoolKey other = (PoolKey) o;
+            return browserType == other.browserType && capabilities.equals(other.capabilities);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(browserType, capabilities);
+        }
+
+        @Override
+        public String toString() {
+            return browserType.getValue() + "#" + Integer.toHexString(capabilities.hashCode());
+        }
+    }
+
+    /**
+     * Idle sessions and slot accounting for a single pool key
+     */
+    private static final class KeyedPool {
+        private final int minSize = Math.max(0, ConfigReader.getDriverPoolMinSize());
+        private final int maxSize = Math.max(1, ConfigReader.getDriverPoolMaxSize());
+        private final Semaphore permits = new Semaphore(maxSize, true);
+        private final ConcurrentLinkedDeque<PooledSession> idle = new ConcurrentLinkedDeque<>();
+        private final AtomicInteger total = new AtomicInteger(0);
+        private final AtomicInteger launching = new AtomicInteger(0);
+        private volatile Supplier<WebDriver> factory;
+    }
+
+    /**
+     * A pooled WebDriver together with its bookkeeping
+     */
+    static final class PooledSession {
+        private final PoolKey key;
+        private final WebDriver driver;
+        private final long createdAt = System.currentTimeMillis();
+        private volatile long idleSince = createdAt;
+        private volatile int leaseCount = 0;
+
+        PooledSession(PoolKey key, WebDriver driver) {
+            this.key = key;
+            this.driver = driver;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.testautomation.core.driver;
+
+import com.testautomation.enums.BrowserType;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Unit tests of the pool key and sizing; no browser is started, sessions are stubs.
+ */
+public class WebDriverPoolTest {
+
+    @Test(description = "Keys of equal options are equal")
+    public void testEqualOptionsShareKey() {
+        WebDriverPool.PoolKey first = new WebDriverPool.PoolKey(BrowserType.CHROME, options("--headless=new"));
+        WebDriverPool.PoolKey second = new WebDriverPool.PoolKey(BrowserType.CHROME, options("--headless=new"));
+
+        Assert.assertEquals(first, second);
+        Assert.assertEquals(first.hashCode(), second.hashCode());
+    }
+
+    @Test(description = "Keys of different options or browsers differ")
+    public void testDifferentOptionsOrBrowserDifferentKey() {
+        WebDriverPool.PoolKey headless = new WebDriverPool.PoolKey(BrowserType.CHROME, options("--headless=new"));
+
+        Assert.assertNotEquals(headless, new WebDriverPool.PoolKey(BrowserType.CHROME, options("--window-size=800,600")));
+        Assert.assertNotEquals(headless, new WebDriverPool.PoolKey(BrowserType.EDGE, options("--headless=new")));
+        Assert.assertNotEquals(headless, new WebDriverPool.PoolKey(BrowserType.CHROME, null));
+    }
+
+    @Test(description = "Changing the options after creating a key does not change the key")
+    public void testKeyCopiesOptions() {
+        ChromeOptions options = options("--headless=new");
+        WebDriverPool.PoolKey key = new WebDriverPool.PoolKey(BrowserType.CHROME, options);
+        int hash = key.hashCode();
+
+        options.addArguments("--incognito");
+
+        Assert.assertEquals(key.hashCode(), hash);
+        Assert.assertNotEquals(key, new WebDriverPool.PoolKey(BrowserType.CHROME, options));
+    }
+
+    @Test(description = "After the first lease of a key, idle sessions are launched in the background up to minSize")
+    public void testTopUpToMinSize() throws InterruptedException {
+        System.setProperty("driver.pool.minSize", "2");
+        System.setProperty("driver.pool.maxSize", "4");
+        WebDriverPool pool = WebDriverPool.getInstance();
+        ChromeOptions options = options("--pool-top-up-test");
+        WebDriver leased = null;
+        try {
+            AtomicInteger launched = new AtomicInteger(0);
+            leased = pool.lease(BrowserType.CHROME, options,
+                () -> {
+                    launched.incrementAndGet();
+                    return stubDriver();
+                });
+            Assert.assertTrue(pool.isLeased(leased));
+
+            long deadline = System.currentTimeMillis() + 5000;
+            while (launched.get() < 3 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            // Give an extra, unwanted launch the chance to show up
+            Thread.sleep(200);
+            Assert.assertEquals(launched.get(), 3, "One leased session plus minSize idle sessions");
+        } finally {
+            // Leave no stub sessions in the shared pool for the suites that run after this one
+            pool.invalidate(leased);
+            pool.drainIdle(BrowserType.CHROME, options);
+            System.clearProperty("driver.pool.minSize");
+            System.clearProperty("driver.pool.maxSize");
+        }
+    }
+
+    private static WebDriver stubDriver() {
+        return (WebDriver) Proxy.newProxyInstance(WebDriver.class.getClassLoader(), new Class<?>[]{WebDriver.class},
+            (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "equals":
+                        return proxy == args[0];
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    case "toString":
+                        return "StubDriver";
+                    case "getWindowHandle":
+                        return "stub-window";
+                    case "close":
+                    case "quit":
+                        return null;
+                    default:
+                        throw new UnsupportedOperationException(method.getName());
+                }
+            });
+    }
+
+    private static ChromeOptions options(String argument) {
+        ChromeOptions options = new ChromeOptions();
+        options.addArguments(argument);
+        return options;
+    }
+}
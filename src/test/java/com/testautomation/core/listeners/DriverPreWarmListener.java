@@ -0,0 +1,121 @@
+package com.testautomation.core.listeners;
+
+import com.testautomation.core.config.ConfigReader;
+import com.testautomation.core.driver.WebDriverManager;
+import com.testautomation.core.driver.WebDriverPool;
+import com.testautomation.utils.common.LoggerUtil;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * TestNG suite listener that launches browser sessions concurrently before the first test runs.
+ * The sessions are parked in the WebDriverPool so every worker thread starts with a warm browser
+ * instead of paying the full driver startup cost on its first test method.
+ *
+ * Register it in the suite XML:
+ * <listeners>
+ *     <listener class-name="com.testautomation.core.listeners.DriverPreWarmListener"/>
+ * </listeners>
+ */
+public class DriverPreWarmListener implements ISuiteListener {
+
+    private static final AtomicInteger sessionsWarmed = new AtomicInteger(0);
+    private static volatile long preWarmWallMillis = 0;
+    private static volatile long preWarmStartupMillis = 0;
+
+    @Override
+    public void onStart(ISuite suite) {
+        try {
+            if (!ConfigReader.isDriverPreWarmEnabled() || !ConfigReader.isDriverPoolEnabled()) {
+                LoggerUtil.info("Driver pre-warm skipped (requires driver.prewarm.enabled and driver.pool.enabled)");
+                return;
+            }
+
+            String browserName = suite.getParameter("browser");
+            if (browserName == null || browserName.isEmpty()) {
+                browserName = ConfigReader.getDefaultBrowser();
+            }
+            int sessionCount = Math.min(ConfigReader.getParallelThreadCount(), ConfigReader.getDriverPoolMaxSize());
+            preWarm(browserName, sessionCount);
+        } catch (Exception e) {
+            // Pre-warm is an optimization only, tests will create sessions on demand
+            LoggerUtil.error("Driver pre-warm failed for suite: " + suite.getName(), e);
+        }
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        try {
+            if (sessionsWarmed.get() > 0) {
+                LoggerUtil.info("=== Driver Pre-Warm Summary ===");
+                LoggerUtil.info("Suite: " + suite.getName());
+                LoggerUtil.info("Sessions Pre-Warmed: " + sessionsWarmed.get());
+                LoggerUtil.info("Pre-Warm Wall Time: " + preWarmWallMillis + "ms");
+                LoggerUtil.info("Startup Time Hidden From Workers: " + preWarmStartupMillis + "ms");
+                LoggerUtil.info("Pool Hits: " + WebDriverPool.getInstance().getHitCount()
+                    + ", Pool Misses: " + WebDriverPool.getInstance().getMissCount());
+                LoggerUtil.info("==============================");
+            }
+        } catch (Exception e) {
+            LoggerUtil.error("Error in onFinish for suite: " + suite.getName(), e);
+        }
+    }
+
+    /**
+     * Launch the given number of sessions in parallel and hand them to the pool
+     */
+    private void preWarm(String browserName, int sessionCount) throws InterruptedException {
+        if (sessionCount <= 0) {
+            return;
+        }
+        LoggerUtil.info("Pre-warming " + sessionCount + " " + browserName + " sessions");
+
+        ExecutorService executor = Executors.newFixedThreadPool(sessionCount, runnable -> {
+            Thread thread = new Thread(runnable, "driver-prewarm");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long wallStart = System.currentTimeMillis();
+        List<Future<Long>> launches = new ArrayList<>();
+        for (int i = 0; i < sessionCount; i++) {
+            final String browser = browserName;
+            launches.add(executor.submit(() -> {
+                long start = System.currentTimeMillis();
+                if (!new WebDriverManager().prewarmSession(browser)) {
+                    return -1L;
+                }
+                return System.currentTimeMillis() - start;
+            }));
+        }
+        executor.shutdown();
+
+        long startupMillis = 0;
+        int warmed = 0;
+        for (Future<Long> launch : launches) {
+            try {
+                long elapsed = launch.get(ConfigReader.getDriverPoolLeaseTimeoutSeconds(), TimeUnit.SECONDS);
+                if (elapsed >= 0) {
+                    startupMillis += elapsed;
+                    warmed++;
+                }
+            } catch (Exception e) {
+                LoggerUtil.warning("Pre-warm session failed to start: " + e.getMessage());
+            }
+        }
+
+        preWarmWallMillis = System.currentTimeMillis() - wallStart;
+        preWarmStartupMillis = startupMillis;
+        sessionsWarmed.set(warmed);
+        LoggerUtil.info("Pre-warmed " + warmed + "/" + sessionCount + " " + browserName + " sessions in "
+            + preWarmWallMillis + "ms wall time, hiding " + startupMillis + "ms of startup time"
+            + (warmed > 0 ? " (avg " + (startupMillis / warmed) + "ms per session)" : ""));
+    }
+}
@@ -1,6 +1,10 @@
 package com.testautomation.core.listeners;
 
+import com.testautomation.core.driver.BrowserResourceSampler;
 import com.testautomation.utils.common.LoggerUtil;
+import io.qameta.allure.Allure;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
 import org.testng.ITestContext;
 import org.testng.ITestListener;
 import org.testng.ITestResult;
@@ -13,7 +17,7 @@ import java.util.concurrent.atomic.AtomicInteger;
  * This listener tracks test execution across the entire test suite and provides
  * detailed statistics and debugging information.
  */
-public class TestListener implements ITestListener {
+public class TestListener implements ITestListener, IInvokedMethodListener {
     
     // Thread-safe counters for test execution tracking
     private static final ConcurrentHashMap<String, AtomicInteger> testClassCounter = new ConcurrentHashMap<>();
@@ -121,6 +125,28 @@ public class TestListener implements ITestListener {
         }
     }
     
+    /**
+     * Attach the browser resource usage of a test right after its method ran. Allure still has
+     * the test case open here; in onTestSuccess/onTestFailure it is already closed, and
+     * attachments made in @AfterMethod belong to the teardown fixture.
+     */
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult result) {
+        if (!method.isTestMethod()) {
+            return;
+        }
+        try {
+            BrowserResourceSampler.ResourceUsage usage = BrowserResourceSampler.getInstance().stopCurrent();
+            if (usage != null) {
+                result.setAttribute("browserResources", usage);
+                Allure.addAttachment("Browser resources", "text/plain", usage.summary());
+                LoggerUtil.info("Browser resources for test " + result.getName() + ": " + usage.summary());
+            }
+        } catch (Exception e) {
+            LoggerUtil.error("Failed to record browser resources for " + result.getName(), e);
+        }
+    }
+    
     @Override
     public void onTestFailedButWithinSuccessPercentage(ITestResult result) {
         try {
@@ -0,0 +1,102 @@
+package com.testautomation.core.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe latency histogram with fixed, roughly logarithmic millisecond buckets.
+ *
+ * Recording is lock-free so it can be called from parallel test threads. Percentiles are
+ * estimated from the bucket upper bounds, which is precise enough to find slow phases.
+ */
+public class LatencyHistogram {
+
+    /** Upper bounds of the buckets in milliseconds; the last bucket collects everything above */
+    private static final long[] BUCKET_BOUNDS = {
+        1, 2, 5, 10, 20, 50, 100, 200, 500, 1000, 2000, 5000, 10000, 30000, 60000
+    };
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_BOUNDS.length + 1);
+    private final AtomicLong count = new AtomicLong(0);
+    private final AtomicLong sum = new AtomicLong(0);
+    private final AtomicLong max = new AtomicLong(0);
+
+    /**
+     * Record one measurement
+     * @param millis the latency in milliseconds
+     */
+    public void record(long millis) {
+        long value = Math.max(0, millis);
+        int bucket = 0;
+        while (bucket < BUCKET_BOUNDS.length && value > BUCKET_BOUNDS[bucket]) {
+            bucket++;
+        }
+        counts.incrementAndGet(bucket);
+        count.incrementAndGet();
+        sum.addAndGet(value);
+        max.accumulateAndGet(value, Math::max);
+    }
+
+    public long getCount() {
+        return count.get();
+    }
+
+    public long getMax() {
+        return max.get();
+    }
+
+    public long getMean() {
+        long samples = count.get();
+        return samples == 0 ? 0 : sum.get() / samples;
+    }
+
+    /**
+     * Estimate a percentile as the upper bound of the bucket containing it
+     * @param percentile between 0 and 100
+     * @return the estimated latency in milliseconds, capped at the observed maximum
+     */
+    public long getPercentile(double percentile) {
+        long samples = count.get();
+        if (samples == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(samples * percentile / 100.0);
+        long seen = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return i < BUCKET_BOUNDS.length ? Math.min(BUCKET_BOUNDS[i], max.get()) : max.get();
+            }
+        }
+        return max.get();
+    }
+
+    /**
+     * Bucket upper bounds, the last bucket has no bound
+     */
+    public static long[] getBucketBounds() {
+        return BUCKET_BOUNDS.clone();
+    }
+
+    /**
+     * Number of measurements per bucket, one more entry than getBucketBounds()
+     */
+    public long[] getBucketCounts() {
+        long[] snapshot = new long[counts.length()];
+        for (int i = 0; i < snapshot.length; i++) {
+            snapshot[i] = counts.get(i);
+        }
+        return snapshot;
+    }
+
+    /**
+     * One-line summary, e.g. "n=12 mean=340ms p50=500ms p95=1000ms max=812ms"
+     */
+    public String summary() {
+        return "n=" + getCount()
+            + " mean=" + getMean() + "ms"
+            + " p50=" + getPercentile(50) + "ms"
+            + " p95=" + getPercentile(95) + "ms"
+            + " max=" + getMax() + "ms";
+    }
+}
@@ -0,0 +1,60 @@
+package com.testautomation.core.metrics;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Unit tests of the histogram buckets and percentile estimates.
+ */
+public class LatencyHistogramTest {
+
+    @Test(description = "Percentiles are the upper bound of the bucket holding the rank")
+    public void testPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int millis = 1; millis <= 100; millis++) {
+            histogram.record(millis);
+        }
+
+        Assert.assertEquals(histogram.getCount(), 100);
+        Assert.assertEquals(histogram.getMean(), 50);
+        Assert.assertEquals(histogram.getPercentile(50), 50);
+        Assert.assertEquals(histogram.getPercentile(95), 100);
+        Assert.assertEquals(histogram.getPercentile(100), 100);
+        Assert.assertEquals(histogram.summary(), "n=100 mean=50ms p50=50ms p95=100ms max=100ms");
+    }
+
+    @Test(description = "Estimates are capped at the observed maximum")
+    public void testPercentileCappedAtMax() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(3);
+        Assert.assertEquals(histogram.getPercentile(50), 3);
+
+        histogram.record(120000);
+        Assert.assertEquals(histogram.getPercentile(50), 5);
+        Assert.assertEquals(histogram.getPercentile(99), 120000);
+        Assert.assertEquals(histogram.getMax(), 120000);
+    }
+
+    @Test(description = "Values land in the bucket of their upper bound, negatives in the first")
+    public void testBuckets() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+        histogram.record(1);
+        histogram.record(2);
+        histogram.record(60001);
+
+        long[] counts = histogram.getBucketCounts();
+        Assert.assertEquals(counts.length, LatencyHistogram.getBucketBounds().length + 1);
+        Assert.assertEquals(counts[0], 2);
+        Assert.assertEquals(counts[1], 1);
+        Assert.assertEquals(counts[counts.length - 1], 1);
+    }
+
+    @Test(description = "An empty histogram reports zeros")
+    public void testEmpty() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        Assert.assertEquals(histogram.getPercentile(95), 0);
+        Assert.assertEquals(histogram.getMean(), 0);
+    }
+}
@@ -1,13 +1,35 @@
 package com.testautomation.core.pages;
 
+import com.testautomation.core.config.ConfigReader;
+import com.testautomation.core.waits.ScriptLocator;
+import com.testautomation.core.waits.WaitCondition;
+import com.testautomation.core.waits.WaitEngine;
+import com.testautomation.utils.common.LoggerUtil;
 import org.openqa.selenium.By;
+import org.openqa.selenium.ElementNotInteractableException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.FindAll;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.FindBys;
 import org.openqa.selenium.support.PageFactory;
-import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
+import java.lang.reflect.Field;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 /**
  * BasePage - Common functionality for all page objects.
@@ -19,20 +41,167 @@ import java.time.Duration;
  * - Common element interaction methods (click, sendKeys, getText)
  * - Wait utilities for element visibility and clickability
  * - Page load verification
- * - Consistent timeout handling
+ * - Consistent timeout handling through the WaitEngine (per-condition timeouts, no implicit wait)
+ *
+ * @FindBy fields are assigned by binders generated at compile time, which set them directly.
+ * Only pages whose @FindBy fields are package-private or protected get a binder; a page with a
+ * private, static or final @FindBy field is bound by PageFactory, with a compiler warning.
  */
 public class BasePage {
+    private static final String QUERY_SCRIPT =
+        ScriptLocator.FIND_FUNCTION +
+        ScriptLocator.IS_VISIBLE_FUNCTION +
+        "return arguments[0].map(function (query) {" +
+        "  if (!query) { return null; }" +
+        "  var el = find(query[0], query[1]);" +
+        "  if (!el) { return {present: false}; }" +
+        "  var rect = el.getBoundingClientRect(), displayed = isVisible(el);" +
+        "  return {present: true, displayed: displayed, enabled: !el.disabled," +
+        "    text: displayed ? (el.innerText || '').trim() : ''," +
+        "    x: Math.round(rect.left + window.pageXOffset), y: Math.round(rect.top + window.pageYOffset)," +
+        "    width: Math.round(rect.width), height: Math.round(rect.height)};" +
+        "});";
+
+    private static final Map<Class<?>, PageBinder<?>> BINDERS = loadBinders();
+    /** Page class -> whether its binders cover all of its element fields */
+    private static final Map<Class<?>, Boolean> BOUND_BY_BINDERS = new ConcurrentHashMap<>();
+
     protected WebDriver driver;
     protected WebDriverWait wait;
+    protected WaitEngine waits;
+    private ElementCache elementCache;
 
     /**
-     * Constructor - initializes the page with WebDriver and PageFactory
+     * Constructor - initializes the page with WebDriver and its element fields
      * @param driver The WebDriver instance for this page
      */
     public BasePage(WebDriver driver) {
         this.driver = driver;
         this.wait = new WebDriverWait(driver, Duration.ofSeconds(10));
-        PageFactory.initElements(driver, this);
+        this.waits = new WaitEngine(driver);
+        initElements();
+    }
+
+    /**
+     * Load the binders generated by PageBinderProcessor, once per JVM
+     */
+    private static Map<Class<?>, PageBinder<?>> loadBinders() {
+        Map<Class<?>, PageBinder<?>> binders = new HashMap<>();
+        if (ConfigReader.isGeneratedPageBindingEnabled()) {
+            for (PageBinder<?> binder : ServiceLoader.load(PageBinder.class, BasePage.class.getClassLoader())) {
+                binders.put(binder.pageType(), binder);
+            }
+            LoggerUtil.debug("Loaded " + binders.size() + " generated page binder(s)");
+        }
+        return binders;
+    }
+
+    /**
+     * Assign the @FindBy fields with the generated binders of this class and its superclasses.
+     * Pages without a binder (compiled without the processor, binding disabled, or private
+     * element fields), or with a superclass that declares element fields but has no binder,
+     * fall back to PageFactory.
+     */
+    private void initElements() {
+        if (!BOUND_BY_BINDERS.computeIfAbsent(getClass(), BasePage::isBoundByBinders)) {
+            PageFactory.initElements(driver, this);
+            return;
+        }
+        bindElements(getClass());
+    }
+
+    /**
+     * Check that the page class and every class up to BasePage that declares element fields
+     * have a binder
+     */
+    private static boolean isBoundByBinders(Class<?> pageClass) {
+        if (!BINDERS.containsKey(pageClass)) {
+            return false;
+        }
+        for (Class<?> type = pageClass; type != null && type != BasePage.class; type = type.getSuperclass()) {
+            if (!BINDERS.containsKey(type) && hasLocatorFields(type)) {
+                LoggerUtil.debug("No page binder for " + type.getName() + ", binding "
+                    + pageClass.getName() + " with PageFactory");
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean hasLocatorFields(Class<?> type) {
+        for (Field field : type.getDeclaredFields()) {
+            if (field.isAnnotationPresent(FindBy.class) || field.isAnnotationPresent(FindBys.class)
+                || field.isAnnotationPresent(FindAll.class)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void bindElements(Class<?> type) {
+        if (type == null || type == BasePage.class) {
+            return;
+        }
+        bindElements(type.getSuperclass());
+        PageBinder<Object> binder = (PageBinder<Object>) BINDERS.get(type);
+        if (binder != null) {
+            binder.bind(this, driver);
+        }
+    }
+
+    /**
+     * Keep elements resolved by clickElement, sendKeysToElement and getElementText for reuse
+     * by later calls with the same locator. Call from the constructor of pages whose elements
+     * outlive single interactions; has no effect with page.elementCache.enabled=false.
+     */
+    protected void enableElementCache() {
+        if (ConfigReader.isElementCacheEnabled()) {
+            elementCache = new ElementCache(getClass().getName());
+        }
+    }
+
+    /**
+     * Forget all cached elements, e.g. after the page changed without navigation
+     */
+    protected void invalidateElementCache() {
+        if (elementCache != null) {
+            elementCache.clear();
+        }
+    }
+
+    /**
+     * Run an action on the cached element of a locator, or on a freshly resolved one when there
+     * is none, it turned stale, it does not pass the check resolve would wait for, it is not
+     * interactable yet or the action returns null
+     * @param locator the element's locator
+     * @param resolve waits for the element
+     * @param ready the state resolve waits for, checked once on a cached element
+     * @param action the interaction; returns null if the cached element was not usable
+     */
+    private <T> T withElement(By locator, Function<By, WebElement> resolve, Predicate<WebElement> ready,
+                              Function<WebElement, T> action) {
+        if (elementCache != null) {
+            WebElement cached = elementCache.get(locator);
+            if (cached != null) {
+                try {
+                    T result = ready.test(cached) ? action.apply(cached) : null;
+                    if (result != null) {
+                        elementCache.recordHit();
+                        return result;
+                    }
+                } catch (StaleElementReferenceException e) {
+                    elementCache.evict(locator);
+                } catch (ElementNotInteractableException e) {
+                    // Still animating or covered, wait for it below
+                }
+            }
+        }
+        WebElement element = resolve.apply(locator);
+        if (elementCache != null) {
+            elementCache.put(locator, element);
+        }
+        return action.apply(element);
     }
 
     /**
@@ -40,8 +209,11 @@ public class BasePage {
      * @param locator The By locator for the element
      */
     protected void clickElement(By locator) {
-        WebElement element = wait.until(ExpectedConditions.elementToBeClickable(locator));
-        element.click();
+        // WebDriver clicks a disabled button without an error, so a cached one must be enabled
+        withElement(locator, waits::clickable, element -> element.isDisplayed() && element.isEnabled(), element -> {
+            element.click();
+            return Boolean.TRUE;
+        });
     }
 
     /**
@@ -49,8 +221,7 @@ public class BasePage {
      * @param element The WebElement to click
      */
     protected void clickElement(WebElement element) {
-        wait.until(ExpectedConditions.elementToBeClickable(element));
-        element.click();
+        waits.clickable(element).click();
     }
 
     /**
@@ -59,9 +230,11 @@ public class BasePage {
      * @param text The text to send
      */
     protected void sendKeysToElement(By locator, String text) {
-        WebElement element = wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
-        element.clear();
-        element.sendKeys(text);
+        withElement(locator, waits::visible, element -> element.isDisplayed() && element.isEnabled(), element -> {
+            element.clear();
+            element.sendKeys(text);
+            return Boolean.TRUE;
+        });
     }
 
     /**
@@ -70,7 +243,7 @@ public class BasePage {
      * @param text The text to send
      */
     protected void sendKeysToElement(WebElement element, String text) {
-        wait.until(ExpectedConditions.visibilityOf(element));
+        waits.visible(element);
         element.clear();
         element.sendKeys(text);
     }
@@ -81,8 +254,12 @@ public class BasePage {
      * @return The text content of the element
      */
     protected String getElementText(By locator) {
-        WebElement element = wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
-        return element.getText();
+        // Hidden elements have no text, an empty result from a cached element waits for visibility
+        String text = withElement(locator, waits::visible, WebElement::isDisplayed, element -> {
+            String value = element.getText();
+            return value.isEmpty() ? null : value;
+        });
+        return text == null ? "" : text;
     }
 
     /**
@@ -91,8 +268,7 @@ public class BasePage {
      * @return The text content of the element
      */
     protected String getElementText(WebElement element) {
-        wait.until(ExpectedConditions.visibilityOf(element));
-        return element.getText();
+        return waits.visible(element).getText();
     }
 
     /**
@@ -102,8 +278,8 @@ public class BasePage {
      */
     protected boolean isElementDisplayed(By locator) {
         try {
-            return wait.until(ExpectedConditions.visibilityOfElementLocated(locator)).isDisplayed();
-        } catch (Exception e) {
+            return waits.visible(locator).isDisplayed();
+        } catch (WebDriverException e) {
             return false;
         }
     }
@@ -115,33 +291,140 @@ public class BasePage {
      */
     protected boolean isElementDisplayed(WebElement element) {
         try {
-            return wait.until(ExpectedConditions.visibilityOf(element)).isDisplayed();
-        } catch (Exception e) {
+            return waits.visible(element).isDisplayed();
+        } catch (WebDriverException e) {
             return false;
         }
     }
 
+    /**
+     * Check that an element is not displayed, without waiting out a timeout when it is already
+     * absent or hidden. Only an element that is still displayed is waited for, e.g. a closing dialog.
+     * Use this instead of !isElementDisplayed(), which waits the full timeout for an absent element.
+     * @param locator The By locator for the element
+     * @return true if the element is absent or hidden, false if it stayed displayed until the timeout
+     */
+    protected boolean waitUntilGone(By locator) {
+        return waits.gone(locator);
+    }
+
+    /**
+     * Assert that an element is not displayed; see {@link #waitUntilGone(By)}
+     * @param locator The By locator for the element
+     * @throws AssertionError if the element is still displayed after the invisibility timeout
+     */
+    protected void assertAbsent(By locator) {
+        if (!waitUntilGone(locator)) {
+            throw new AssertionError("Expected element to be absent but it is displayed: " + locator);
+        }
+    }
+
+    /**
+     * Read the state of many elements with a single script call. Locators that cannot be
+     * evaluated in the page (link text, chained) are looked up through WebDriver instead.
+     * Does not wait; see {@link #areAllDisplayed(By...)}.
+     * @param locators the elements to read
+     * @return one snapshot per locator, in the same order
+     */
+    protected List<ElementSnapshot> queryAll(By... locators) {
+        List<List<String>> queries = new ArrayList<>();
+        for (By locator : locators) {
+            String[] query = ScriptLocator.of(locator);
+            queries.add(query == null ? null : Arrays.asList(query));
+        }
+        List<?> results = (List<?>) ((JavascriptExecutor) driver).executeScript(QUERY_SCRIPT, queries);
+
+        List<ElementSnapshot> snapshots = new ArrayList<>();
+        for (int i = 0; i < locators.length; i++) {
+            Object result = results.get(i);
+            snapshots.add(result instanceof Map
+                ? toSnapshot(locators[i], (Map<?, ?>) result)
+                : snapshotThroughDriver(locators[i]));
+        }
+        return snapshots;
+    }
+
+    /**
+     * Wait until all elements are displayed, reading them with one script call per poll
+     * @param locators the elements to check
+     * @return true if all elements were displayed within the visibility timeout
+     */
+    protected boolean areAllDisplayed(By... locators) {
+        return waits.test(WaitCondition.VISIBLE,
+            webDriver -> queryAll(locators).stream().allMatch(ElementSnapshot::isDisplayed),
+            WaitCondition.VISIBLE.getTimeout());
+    }
+
+    private static ElementSnapshot toSnapshot(By locator, Map<?, ?> state) {
+        if (!Boolean.TRUE.equals(state.get("present"))) {
+            return ElementSnapshot.absent(locator);
+        }
+        return new ElementSnapshot(locator, true,
+            Boolean.TRUE.equals(state.get("displayed")),
+            Boolean.TRUE.equals(state.get("enabled")),
+            String.valueOf(state.get("text")),
+            new Rectangle(intValue(state.get("x")), intValue(state.get("y")),
+                intValue(state.get("height")), intValue(state.get("width"))));
+    }
+
+    private ElementSnapshot snapshotThroughDriver(By locator) {
+        List<WebElement> matches = driver.findElements(locator);
+        if (matches.isEmpty()) {
+            return ElementSnapshot.absent(locator);
+        }
+        WebElement element = matches.get(0);
+        boolean displayed = element.isDisplayed();
+        return new ElementSnapshot(locator, true, displayed, element.isEnabled(),
+            displayed ? element.getText() : "", element.getRect());
+    }
+
+    private static int intValue(Object value) {
+        return value instanceof Number ? ((Number) value).intValue() : 0;
+    }
+
     /**
      * Wait for an element to be clickable using By locator
      * @param locator The By locator for the element
+     * @return the clickable element
      */
-    protected void waitForElementToBeClickable(By locator) {
-        wait.until(ExpectedConditions.elementToBeClickable(locator));
+    protected WebElement waitForElementToBeClickable(By locator) {
+        return waits.clickable(locator);
     }
 
     /**
      * Wait for an element to be visible using By locator
      * @param locator The By locator for the element
+     * @return the visible element
      */
-    protected void waitForElementToBeVisible(By locator) {
-        wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+    protected WebElement waitForElementToBeVisible(By locator) {
+        return waits.visible(locator);
     }
 
     /**
-     * Wait for page to load completely
+     * Wait until the page is usable, as decided by {@link #getReadinessProbe()}
      */
     protected void waitForPageToLoad() {
-        wait.until(ExpectedConditions.jsReturnsValue("return document.readyState === 'complete'"));
+        invalidateElementCache();
+        ReadinessProbe probe = getReadinessProbe();
+        waits.until(WaitCondition.PAGE_READY, webDriver -> probe.isReady(webDriver));
+    }
+
+    /**
+     * Readiness probe used by waitForPageToLoad(), selected from browser.pageLoadStrategy
+     * and page.readiness.probe. Override to use a page-specific probe.
+     * @return the readiness probe for this page
+     */
+    protected ReadinessProbe getReadinessProbe() {
+        return ReadinessProbe.fromConfig(getKeyLocator());
+    }
+
+    /**
+     * Element that must be present before the page can be used with the eager or none
+     * page-load strategy. Override in page objects; null means DOMContentLoaded is enough.
+     * @return the key element locator, or null
+     */
+    protected By getKeyLocator() {
+        return null;
     }
 
     /**
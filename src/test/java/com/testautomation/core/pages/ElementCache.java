@@ -0,0 +1,95 @@
+package com.testautomation.core.pages;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Resolved elements of one page object, keyed by locator.
+ *
+ * Pages opt in with BasePage.enableElementCache(). A cached element is used directly, without a
+ * new lookup and wait, until it turns stale or the page navigates (BasePage.waitForPageToLoad()
+ * clears the cache); then the locator is resolved again through the WaitEngine.
+ *
+ * A cached element is only used when it still passes the check the WaitEngine would wait for
+ * (displayed, and enabled for clicks and typing); otherwise the locator is resolved again.
+ *
+ * Hits, misses and stale evictions are counted per page class (fully qualified name) across
+ * all instances.
+ */
+public class ElementCache {
+
+    private static final Map<String, CacheStats> statistics = new ConcurrentHashMap<>();
+
+    private final Map<By, WebElement> elements = new ConcurrentHashMap<>();
+    private final CacheStats stats;
+
+    /**
+     * @param pageName fully qualified page class name, the key of the statistics
+     */
+    public ElementCache(String pageName) {
+        this.stats = statistics.computeIfAbsent(pageName, name -> new CacheStats());
+    }
+
+    /**
+     * @return the cached element, or null if the locator has not been resolved yet
+     */
+    WebElement get(By locator) {
+        return elements.get(locator);
+    }
+
+    void put(By locator, WebElement element) {
+        elements.put(locator, element);
+        stats.misses.incrementAndGet();
+    }
+
+    void recordHit() {
+        stats.hits.incrementAndGet();
+    }
+
+    /**
+     * Drop an element that turned stale
+     */
+    void evict(By locator) {
+        if (elements.remove(locator) != null) {
+            stats.stale.incrementAndGet();
+        }
+    }
+
+    /**
+     * Drop all elements, e.g. after navigation
+     */
+    public void clear() {
+        elements.clear();
+    }
+
+    /**
+     * Get hit rates per page object
+     * @return formatted string with current statistics
+     */
+    public static String getStatistics() {
+        StringBuilder text = new StringBuilder();
+        text.append("=== Element Cache Statistics ===\n");
+        statistics.forEach((page, stats) -> {
+            long hits = stats.hits.get();
+            long lookups = hits + stats.misses.get();
+            text.append(page).append(": ").append(hits).append(" hit(s), ").append(stats.misses.get())
+                .append(" lookup(s), ").append(stats.stale.get()).append(" stale, hit rate ")
+                .append(lookups == 0 ? 0 : hits * 100 / lookups).append("%\n");
+        });
+        text.append("================================");
+        return text.toString();
+    }
+
+    /**
+     * Counters of one page class
+     */
+    private static final class CacheStats {
+        private final AtomicLong hits = new AtomicLong(0);
+        private final AtomicLong misses = new AtomicLong(0);
+        private final AtomicLong stale = new AtomicLong(0);
+    }
+}
@@ -0,0 +1,68 @@
+package com.testautomation.core.pages;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.Rectangle;
+
+/**
+ * State of one element at the moment of a BasePage.queryAll() call.
+ * A locator that matched nothing gives a snapshot with isPresent() false.
+ */
+public final class ElementSnapshot {
+
+    private final By locator;
+    private final boolean present;
+    private final boolean displayed;
+    private final boolean enabled;
+    private final String text;
+    private final Rectangle rect;
+
+    ElementSnapshot(By locator, boolean present, boolean displayed, boolean enabled, String text, Rectangle rect) {
+        this.locator = locator;
+        this.present = present;
+        this.displayed = displayed;
+        this.enabled = enabled;
+        this.text = text;
+        this.rect = rect;
+    }
+
+    static ElementSnapshot absent(By locator) {
+        return new ElementSnapshot(locator, false, false, false, "", new Rectangle(0, 0, 0, 0));
+    }
+
+    public By getLocator() {
+        return locator;
+    }
+
+    public boolean isPresent() {
+        return present;
+    }
+
+    public boolean isDisplayed() {
+        return displayed;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Visible text, empty for hidden or absent elements
+     */
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * Bounding box in page coordinates
+     */
+    public Rectangle getRect() {
+        return rect;
+    }
+
+    @Override
+    public String toString() {
+        return locator + (present
+            ? " displayed=" + displayed + " enabled=" + enabled + " text='" + text + "'"
+            : " absent");
+    }
+}
@@ -0,0 +1,91 @@
+package com.testautomation.core.pages;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * List&lt;WebElement&gt; field of a page object, assigned by a generated PageBinder.
+ * Looks the elements up again on every call unless the field has @CacheLookup.
+ *
+ * Like PageFactory's list proxy, each call does one lookup: iterating, streaming and copying
+ * work on a single snapshot of the matching elements, so a loop costs one round trip and
+ * cannot fail when the page removes elements halfway through. Only index-based loops over
+ * get(i) and size() look the elements up on every call.
+ */
+public class LazyElementList extends AbstractList<WebElement> {
+
+    private final SearchContext context;
+    private final By locator;
+    private final boolean cacheLookup;
+    private List<WebElement> cached;
+
+    public LazyElementList(SearchContext context, By locator, boolean cacheLookup) {
+        this.context = context;
+        this.locator = locator;
+        this.cacheLookup = cacheLookup;
+    }
+
+    private List<WebElement> elements() {
+        if (cached != null) {
+            return cached;
+        }
+        List<WebElement> elements = context.findElements(locator);
+        if (cacheLookup) {
+            cached = elements;
+        }
+        return elements;
+    }
+
+    @Override
+    public WebElement get(int index) {
+        return elements().get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements().size();
+    }
+
+    @Override
+    public Iterator<WebElement> iterator() {
+        return elements().iterator();
+    }
+
+    @Override
+    public ListIterator<WebElement> listIterator(int index) {
+        return elements().listIterator(index);
+    }
+
+    @Override
+    public Stream<WebElement> stream() {
+        return elements().stream();
+    }
+
+    @Override
+    public void forEach(Consumer<? super WebElement> action) {
+        elements().forEach(action);
+    }
+
+    @Override
+    public Object[] toArray() {
+        return elements().toArray();
+    }
+
+    @Override
+    public <A> A[] toArray(A[] array) {
+        return elements().toArray(array);
+    }
+
+    @Override
+    public String toString() {
+        return "Lazy element list for: " + locator;
+    }
+}
@@ -0,0 +1,33 @@
+package com.testautomation.core.pages;
+
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Assigns the @FindBy fields of one page class without reflection.
+ *
+ * Implementations are generated at compile time by
+ * com.testautomation.processor.PageBinderProcessor as "<Page>_Binder" next to the page class and
+ * registered for ServiceLoader; BasePage uses them instead of PageFactory.initElements().
+ * Each binder assigns only the fields declared by its own page class.
+ *
+ * Binders assign fields directly instead of through reflection, so only pages whose @FindBy
+ * fields are not private, static or final get one. Page authors choose: package-private fields
+ * for page construction without reflection or dynamic proxies, or private fields bound by
+ * PageFactory.
+ *
+ * @param <T> the page class
+ */
+public interface PageBinder<T> {
+
+    /**
+     * @return the page class whose fields this binder assigns
+     */
+    Class<T> pageType();
+
+    /**
+     * Assign the element fields of a page
+     * @param page the page being constructed
+     * @param driver driver the elements are looked up with
+     */
+    void bind(T page, WebDriver driver);
+}
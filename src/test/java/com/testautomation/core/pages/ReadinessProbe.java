@@ -0,0 +1,76 @@
+package com.testautomation.core.pages;
+
+import com.testautomation.core.config.ConfigReader;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Decides when a page is usable. Used by BasePage.waitForPageToLoad().
+ *
+ * With browser.pageLoadStrategy=normal the driver already waits for the load event and
+ * the probe only confirms document.readyState is complete. With eager or none, navigation
+ * returns before subresources finish and page.readiness.probe selects what to wait for:
+ * - dom: DOMContentLoaded has fired and the page's key element is present
+ * - network-idle: DOMContentLoaded has fired and no resource finished loading for
+ *   page.readiness.networkIdleMillis (based on the Resource Timing API, which only lists
+ *   completed requests)
+ */
+@FunctionalInterface
+public interface ReadinessProbe {
+
+    /**
+     * Check whether the page is ready for interaction
+     * @param driver the WebDriver instance
+     * @return true if the page is ready
+     */
+    boolean isReady(WebDriver driver);
+
+    /**
+     * Ready once document.readyState is complete, i.e. the load event fired
+     */
+    static ReadinessProbe documentComplete() {
+        return driver -> "complete".equals(readyState(driver));
+    }
+
+    /**
+     * Ready once DOMContentLoaded fired and, if given, the key element is in the DOM
+     * @param keyLocator element the page needs before it can be used, or null
+     */
+    static ReadinessProbe domContentLoaded(By keyLocator) {
+        return driver -> !"loading".equals(readyState(driver))
+            && (keyLocator == null || !driver.findElements(keyLocator).isEmpty());
+    }
+
+    /**
+     * Ready once DOMContentLoaded fired and no resource finished loading during the quiet period
+     * @param quietMillis quiet period in milliseconds
+     */
+    static ReadinessProbe networkIdle(long quietMillis) {
+        String script =
+            "if (document.readyState === 'loading') { return false; }" +
+            "var last = 0;" +
+            "performance.getEntriesByType('resource').forEach(function (entry) {" +
+            "  last = Math.max(last, entry.responseEnd); });" +
+            "return performance.now() - last >= " + quietMillis + ";";
+        return driver -> Boolean.TRUE.equals(((JavascriptExecutor) driver).executeScript(script));
+    }
+
+    /**
+     * Probe matching browser.pageLoadStrategy and page.readiness.probe
+     * @param keyLocator the page's key element for the dom probe, or null
+     */
+    static ReadinessProbe fromConfig(By keyLocator) {
+        if ("normal".equalsIgnoreCase(ConfigReader.getPageLoadStrategy())) {
+            return documentComplete();
+        }
+        if ("network-idle".equalsIgnoreCase(ConfigReader.getReadinessProbe())) {
+            return networkIdle(ConfigReader.getReadinessNetworkIdleMillis());
+        }
+        return domContentLoaded(keyLocator);
+    }
+
+    private static Object readyState(WebDriver driver) {
+        return ((JavascriptExecutor) driver).executeScript("return document.readyState");
+    }
+}
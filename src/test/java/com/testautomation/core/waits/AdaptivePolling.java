@@ -0,0 +1,94 @@
+package com.testautomation.core.waits;
+
+import com.testautomation.core.config.ConfigReader;
+import org.openqa.selenium.support.ui.Sleeper;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Poll schedule for WaitEngine waits.
+ *
+ * A fixed 500 ms interval costs up to half a second on a condition that is met right after a
+ * poll, while a fixed short interval floods the driver with commands during long waits. The
+ * adaptive schedule polls fast first (wait.polling.initialMillis) and backs off by
+ * wait.polling.multiplier up to wait.polling.maxMillis.
+ *
+ * With wait.polling.learning.enabled the typical settle time of each wait key (locator and
+ * condition) is learned as a moving average of past successful waits. A wait that usually needs
+ * a while skips the fast polls and sleeps through most of that time first, then polls fast
+ * around the expected moment.
+ *
+ * wait.polling.adaptive.enabled=false restores the fixed WebDriverWait interval, e.g. to compare
+ * the total wait time of a suite under both schedules in WaitMetrics.
+ */
+public final class AdaptivePolling {
+
+    private static final Duration FIXED_INTERVAL = Duration.ofMillis(500);
+    private static final double LEARNING_RATE = 0.3;
+    private static final Map<String, Double> settleMillis = new ConcurrentHashMap<>();
+
+    private AdaptivePolling() {
+    }
+
+    /**
+     * Interval passed to the wait; the adaptive sleeper ignores it
+     */
+    static Duration interval() {
+        return ConfigReader.isAdaptivePollingEnabled()
+            ? Duration.ofMillis(ConfigReader.getPollingMaxMillis())
+            : FIXED_INTERVAL;
+    }
+
+    /**
+     * Create the sleeper for one wait
+     * @param key identifies what is waited for, e.g. "visible By.id: submit"
+     * @param polls counts the sleeps, i.e. the polls after the first one
+     */
+    static Sleeper sleeper(String key, int[] polls) {
+        return sleeper(key, polls, Sleeper.SYSTEM_SLEEPER);
+    }
+
+    /**
+     * Create the sleeper for one wait on top of another sleeper, which does the actual sleeping
+     */
+    static Sleeper sleeper(String key, int[] polls, Sleeper target) {
+        if (!ConfigReader.isAdaptivePollingEnabled()) {
+            return duration -> {
+                polls[0]++;
+                target.sleep(duration);
+            };
+        }
+        long initial = Math.max(1, ConfigReader.getPollingInitialMillis());
+        long max = Math.max(initial, ConfigReader.getPollingMaxMillis());
+        double multiplier = Math.max(1.0, ConfigReader.getPollingMultiplier());
+        Double learned = ConfigReader.isPollingLearningEnabled() ? settleMillis.get(key) : null;
+
+        long[] next = {initial};
+        return duration -> {
+            long delay;
+            if (polls[0] == 0 && learned != null && learned > initial * 4) {
+                // Sleep through most of the usual settle time, then poll fast around it
+                delay = Math.min(max, (long) (learned * 0.8));
+            } else {
+                delay = next[0];
+                next[0] = Math.min(max, (long) Math.ceil(next[0] * multiplier));
+            }
+            polls[0]++;
+            target.sleep(Duration.ofMillis(delay));
+        };
+    }
+
+    /**
+     * Learn from a wait that succeeded
+     * @param key the key passed to {@link #sleeper(String, int[])}
+     * @param millis how long the condition took to be met
+     */
+    static void recordSettled(String key, long millis) {
+        if (ConfigReader.isPollingLearningEnabled()) {
+            settleMillis.merge(key, (double) millis,
+                (previous, current) -> previous + LEARNING_RATE * (current - previous));
+        }
+    }
+}
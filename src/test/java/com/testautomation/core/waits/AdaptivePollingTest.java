@@ -0,0 +1,91 @@
+package com.testautomation.core.waits;
+
+import org.openqa.selenium.support.ui.Sleeper;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Unit tests of the poll schedule; sleeps are recorded instead of slept.
+ */
+public class AdaptivePollingTest {
+
+    private static final String[] PROPERTIES = {
+        "wait.polling.adaptive.enabled", "wait.polling.learning.enabled",
+        "wait.polling.initialMillis", "wait.polling.multiplier", "wait.polling.maxMillis"
+    };
+
+    @BeforeClass
+    public void enableAdaptivePolling() {
+        System.setProperty("wait.polling.adaptive.enabled", "true");
+        System.setProperty("wait.polling.learning.enabled", "true");
+        System.setProperty("wait.polling.initialMillis", "10");
+        System.setProperty("wait.polling.multiplier", "2.0");
+        System.setProperty("wait.polling.maxMillis", "2000");
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void restoreConfiguration() {
+        for (String property : PROPERTIES) {
+            System.clearProperty(property);
+        }
+    }
+
+    @Test(description = "Polls back off from initialMillis by the multiplier up to maxMillis")
+    public void testBackoff() throws InterruptedException {
+        System.setProperty("wait.polling.maxMillis", "100");
+        try {
+            Assert.assertEquals(poll("backoff", 6), List.of(10L, 20L, 40L, 80L, 100L, 100L));
+        } finally {
+            System.setProperty("wait.polling.maxMillis", "2000");
+        }
+    }
+
+    @Test(description = "A learned settle time is an exponential moving average of past waits")
+    public void testLearnedSettleTime() throws InterruptedException {
+        AdaptivePolling.recordSettled("learned", 1000);
+        Assert.assertEquals(poll("learned", 3), List.of(800L, 10L, 20L));
+
+        // 1000 + 0.3 * (2000 - 1000)
+        AdaptivePolling.recordSettled("learned", 2000);
+        Assert.assertEquals(poll("learned", 1), List.of(1040L));
+    }
+
+    @Test(description = "Short learned settle times keep the fast polls")
+    public void testShortSettleTimeIgnored() throws InterruptedException {
+        AdaptivePolling.recordSettled("fast", 30);
+
+        Assert.assertEquals(poll("fast", 2), List.of(10L, 20L));
+    }
+
+    @Test(description = "Without adaptive polling every poll waits the interval of the wait")
+    public void testFixedInterval() throws InterruptedException {
+        System.setProperty("wait.polling.adaptive.enabled", "false");
+        try {
+            Assert.assertEquals(AdaptivePolling.interval(), Duration.ofMillis(500));
+            Assert.assertEquals(poll("fixed", 2), List.of(500L, 500L));
+        } finally {
+            System.setProperty("wait.polling.adaptive.enabled", "true");
+        }
+    }
+
+    /**
+     * Let the sleeper of a key sleep a number of times
+     * @return the requested sleeps in milliseconds
+     */
+    private static List<Long> poll(String key, int times) throws InterruptedException {
+        List<Long> sleeps = new ArrayList<>();
+        int[] polls = {0};
+        Sleeper sleeper = AdaptivePolling.sleeper(key, polls, duration -> sleeps.add(duration.toMillis()));
+        for (int i = 0; i < times; i++) {
+            sleeper.sleep(AdaptivePolling.interval());
+        }
+        Assert.assertEquals(polls[0], times);
+        return sleeps;
+    }
+}
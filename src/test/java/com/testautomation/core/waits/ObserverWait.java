@@ -0,0 +1,104 @@
+package com.testautomation.core.waits;
+
+import com.testautomation.core.config.ConfigReader;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * In-page waits for wait.mode=observer.
+ *
+ * Instead of polling over the WebDriver protocol, an asynchronous script watches the DOM with a
+ * MutationObserver and answers as soon as the element is present, visible, clickable or gone,
+ * one animation frame after the change. A 100 ms in-page check covers changes that do not touch
+ * the DOM, such as stylesheet animations. The script answers after at most 5 s so it stays well
+ * within the session's script timeout; longer waits take a few round trips.
+ *
+ * Once the script reports the condition, it is confirmed once with the regular WebDriver
+ * condition, so results keep WebDriver's visibility rules. Locators the script cannot evaluate
+ * (link text, chained or relative locators), a navigation during the wait, or a disagreement
+ * with the confirmation fall back to the polling wait for the remaining time.
+ */
+final class ObserverWait {
+
+    private static final long CHUNK_MILLIS = 5000;
+
+    private static final String SCRIPT =
+        "var strategy = arguments[0], value = arguments[1], condition = arguments[2], timeout = arguments[3];" +
+        "var done = arguments[arguments.length - 1];" +
+        ScriptLocator.FIND_FUNCTION +
+        ScriptLocator.IS_VISIBLE_FUNCTION +
+        "function met() {" +
+        "  var el = find(strategy, value);" +
+        "  switch (condition) {" +
+        "    case 'present': return !!el;" +
+        "    case 'visible': return !!el && isVisible(el);" +
+        "    case 'clickable': return !!el && isVisible(el) && !el.disabled;" +
+        "    case 'invisible': return !el || !isVisible(el);" +
+        "  }" +
+        "  return false;" +
+        "}" +
+        "if (met()) { done(true); return; }" +
+        "var finished = false, scheduled = false;" +
+        "var observer = new MutationObserver(function () {" +
+        "  if (scheduled) { return; }" +
+        "  scheduled = true;" +
+        "  requestAnimationFrame(function () { scheduled = false; if (met()) { finish(true); } });" +
+        "});" +
+        "var check = setInterval(function () { if (met()) { finish(true); } }, 100);" +
+        "var timer = setTimeout(function () { finish(false); }, timeout);" +
+        "function finish(result) {" +
+        "  if (finished) { return; }" +
+        "  finished = true;" +
+        "  observer.disconnect(); clearInterval(check); clearTimeout(timer);" +
+        "  done(result);" +
+        "}" +
+        "observer.observe(document.documentElement || document, {childList: true, subtree: true, attributes: true});";
+
+    private ObserverWait() {
+    }
+
+    /**
+     * Check whether a wait can run in the page
+     */
+    static boolean isApplicable(WaitCondition kind, By locator) {
+        return "observer".equalsIgnoreCase(ConfigReader.getWaitMode())
+            && locator != null
+            && (kind == WaitCondition.PRESENT || kind == WaitCondition.VISIBLE
+                || kind == WaitCondition.CLICKABLE || kind == WaitCondition.INVISIBLE)
+            && ScriptLocator.of(locator) != null;
+    }
+
+    /**
+     * Wait in the page until the condition is met, then confirm it with the WebDriver condition
+     * @param roundTrips counts the script calls
+     * @return the confirmed condition value, or null if the wait has to continue by polling
+     */
+    static <T> T await(WebDriver driver, By locator, WaitCondition kind, Function<? super WebDriver, T> condition,
+                       Duration timeout, int[] roundTrips) {
+        String[] strategy = ScriptLocator.of(locator);
+        long deadline = System.currentTimeMillis() + timeout.toMillis();
+        try {
+            while (true) {
+                long chunk = Math.min(CHUNK_MILLIS, deadline - System.currentTimeMillis());
+                if (chunk <= 0) {
+                    return null;
+                }
+                roundTrips[0]++;
+                Object met = ((JavascriptExecutor) driver).executeAsyncScript(SCRIPT,
+                    strategy[0], strategy[1], kind.getValue(), chunk);
+                if (Boolean.TRUE.equals(met)) {
+                    T value = condition.apply(driver);
+                    return value == null || Boolean.FALSE.equals(value) ? null : value;
+                }
+            }
+        } catch (WebDriverException | ClassCastException e) {
+            // Page navigated, script timeout or no script support: continue by polling
+            return null;
+        }
+    }
+}
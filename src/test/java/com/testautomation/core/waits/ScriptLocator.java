@@ -0,0 +1,73 @@
+package com.testautomation.core.waits;
+
+import org.openqa.selenium.By;
+
+/**
+ * Evaluates locators inside the page, for scripts that check many elements or wait in the
+ * page without a WebDriver round trip per lookup.
+ *
+ * Supports By.id, name, className, tagName, cssSelector and xpath. Link text, chained and
+ * relative locators have no script equivalent and must be resolved through WebDriver.
+ */
+public final class ScriptLocator {
+
+    /** JavaScript function find(strategy, value): the first matching element or null */
+    public static final String FIND_FUNCTION =
+        "function find(strategy, value) {" +
+        "  try {" +
+        "    switch (strategy) {" +
+        "      case 'id': return document.getElementById(value);" +
+        "      case 'name': return document.getElementsByName(value)[0] || null;" +
+        "      case 'class': return document.getElementsByClassName(value)[0] || null;" +
+        "      case 'xpath': return document.evaluate(value, document, null," +
+        "        XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;" +
+        "      default: return document.querySelector(value);" +
+        "    }" +
+        "  } catch (e) { return null; }" +
+        "}";
+
+    /**
+     * JavaScript function isVisible(el), close to WebDriver's isDisplayed(): the element has a
+     * layout box and is not hidden or fully transparent
+     */
+    public static final String IS_VISIBLE_FUNCTION =
+        "function isVisible(el) {" +
+        "  if (!el.getClientRects().length) { return false; }" +
+        "  var style = window.getComputedStyle(el);" +
+        "  return style.visibility !== 'hidden' && style.visibility !== 'collapse' && parseFloat(style.opacity) !== 0;" +
+        "}";
+
+    private ScriptLocator() {
+    }
+
+    /**
+     * Script strategy and value for a locator, the arguments of find()
+     * @return {strategy, value}, or null if the locator cannot be evaluated in the page
+     */
+    public static String[] of(By locator) {
+        if (locator == null) {
+            return null;
+        }
+        String description = locator.toString();
+        int separator = description.indexOf(": ");
+        if (!description.startsWith("By.") || separator < 0) {
+            return null;
+        }
+        String value = description.substring(separator + 2);
+        switch (description.substring(3, separator)) {
+            case "id":
+                return new String[]{"id", value};
+            case "name":
+                return new String[]{"name", value};
+            case "className":
+                return new String[]{"class", value};
+            case "xpath":
+                return new String[]{"xpath", value};
+            case "cssSelector":
+            case "tagName":
+                return new String[]{"css", value};
+            default:
+                return null;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.testautomation.core.waits;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.support.pagefactory.ByChained;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Unit tests of the translation of locators into in-page script lookups.
+ */
+public class ScriptLocatorTest {
+
+    @Test(description = "Supported locators map to a script strategy and keep their value")
+    public void testSupportedLocators() {
+        Assert.assertEquals(ScriptLocator.of(By.id("submit")), new String[]{"id", "submit"});
+        Assert.assertEquals(ScriptLocator.of(By.name("userName")), new String[]{"name", "userName"});
+        Assert.assertEquals(ScriptLocator.of(By.className("btn")), new String[]{"class", "btn"});
+        Assert.assertEquals(ScriptLocator.of(By.tagName("button")), new String[]{"css", "button"});
+        Assert.assertEquals(ScriptLocator.of(By.cssSelector("div > a[href='x: y']")),
+            new String[]{"css", "div > a[href='x: y']"});
+        Assert.assertEquals(ScriptLocator.of(By.xpath("//button[text()='Click: me']")),
+            new String[]{"xpath", "//button[text()='Click: me']"});
+    }
+
+    @Test(description = "Locators the page script cannot evaluate are rejected")
+    public void testUnsupportedLocators() {
+        Assert.assertNull(ScriptLocator.of(null));
+        Assert.assertNull(ScriptLocator.of(By.linkText("Home")));
+        Assert.assertNull(ScriptLocator.of(By.partialLinkText("Ho")));
+        Assert.assertNull(ScriptLocator.of(new ByChained(By.id("form"), By.name("q"))));
+    }
+}
@@ -0,0 +1,36 @@
+package com.testautomation.core.waits;
+
+import com.testautomation.core.config.ConfigReader;
+
+import java.time.Duration;
+
+/**
+ * Kinds of conditions the WaitEngine waits for. Each has its own timeout,
+ * timeout.wait.[value] in config.properties, falling back to timeout.explicit.
+ */
+public enum WaitCondition {
+    PRESENT("present"),
+    VISIBLE("visible"),
+    CLICKABLE("clickable"),
+    INVISIBLE("invisible"),
+    TITLE("title"),
+    URL("url"),
+    PAGE_READY("pageReady");
+
+    private final String value;
+
+    WaitCondition(String value) {
+        this.value = value;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * Configured timeout for this kind of condition
+     */
+    public Duration getTimeout() {
+        return Duration.ofSeconds(ConfigReader.getWaitTimeoutSeconds(value));
+    }
+}
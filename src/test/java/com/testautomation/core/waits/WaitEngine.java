@@ -0,0 +1,201 @@
+package com.testautomation.core.waits;
+
+import com.testautomation.core.config.ConfigReader;
+import org.openqa.selenium.By;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * The single place where the framework waits for the browser.
+ *
+ * Sessions run with an implicit wait of 0 (timeout.implicit), so a wait here is the only wait:
+ * a condition that fails does not block again inside each findElement call. Every kind of
+ * condition has its own timeout (see {@link WaitCondition}), and the time spent in each wait is
+ * recorded per call site in {@link WaitMetrics}. Conditions are polled on the schedule of
+ * {@link AdaptivePolling}, or watched in the page with wait.mode=observer (see {@link ObserverWait}).
+ *
+ * Used by BasePage and WaitUtils; page objects should call the BasePage helpers instead of
+ * creating their own WebDriverWait.
+ */
+public class WaitEngine {
+
+    private final WebDriver driver;
+
+    public WaitEngine(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    /**
+     * Wait until an element is in the DOM
+     * @return the element
+     */
+    public WebElement present(By locator) {
+        return await(WaitCondition.PRESENT, ExpectedConditions.presenceOfElementLocated(locator),
+            WaitCondition.PRESENT.getTimeout(), locator);
+    }
+
+    /**
+     * Wait until an element is visible
+     * @return the element
+     */
+    public WebElement visible(By locator) {
+        return await(WaitCondition.VISIBLE, ExpectedConditions.visibilityOfElementLocated(locator),
+            WaitCondition.VISIBLE.getTimeout(), locator);
+    }
+
+    /**
+     * Wait until an element is visible
+     * @return the element
+     */
+    public WebElement visible(WebElement element) {
+        return until(WaitCondition.VISIBLE, ExpectedConditions.visibilityOf(element));
+    }
+
+    /**
+     * Wait until an element is visible and enabled
+     * @return the element
+     */
+    public WebElement clickable(By locator) {
+        return await(WaitCondition.CLICKABLE, ExpectedConditions.elementToBeClickable(locator),
+            WaitCondition.CLICKABLE.getTimeout(), locator);
+    }
+
+    /**
+     * Wait until an element is visible and enabled
+     * @return the element
+     */
+    public WebElement clickable(WebElement element) {
+        return until(WaitCondition.CLICKABLE, ExpectedConditions.elementToBeClickable(element));
+    }
+
+    /**
+     * Wait until an element is hidden or not in the DOM
+     */
+    public void invisible(By locator) {
+        await(WaitCondition.INVISIBLE, ExpectedConditions.invisibilityOfElementLocated(locator),
+            WaitCondition.INVISIBLE.getTimeout(), locator);
+    }
+
+    /**
+     * Check that an element is absent or hidden. Answers from the first probe when it is;
+     * waits only while the element is still displayed, e.g. a closing dialog.
+     * @return true if the element is gone, false if it was still displayed at the timeout
+     */
+    public boolean gone(By locator) {
+        if (!isDisplayedNow(locator)) {
+            return true;
+        }
+        try {
+            invisible(locator);
+            return true;
+        } catch (TimeoutException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Probe once whether any element matching a locator is displayed. findElements runs with the
+     * implicit wait switched off, so a missing element is answered at once instead of after
+     * timeout.implicit.
+     */
+    boolean isDisplayedNow(By locator) {
+        int implicitWait = ConfigReader.getImplicitWait();
+        WebDriver.Timeouts timeouts = implicitWait > 0 ? driver.manage().timeouts() : null;
+        if (timeouts != null) {
+            timeouts.implicitlyWait(Duration.ZERO);
+        }
+        try {
+            for (WebElement element : driver.findElements(locator)) {
+                try {
+                    if (element.isDisplayed()) {
+                        return true;
+                    }
+                } catch (StaleElementReferenceException e) {
+                    // Removed since the lookup, i.e. gone
+                }
+            }
+            return false;
+        } finally {
+            if (timeouts != null) {
+                timeouts.implicitlyWait(Duration.ofSeconds(implicitWait));
+            }
+        }
+    }
+
+    /**
+     * Wait for a condition with the configured timeout of its kind
+     * @param kind the kind of condition, selects the timeout and labels the metrics
+     * @param condition returns a non-null, non-false value once satisfied
+     * @return the condition's value
+     * @throws TimeoutException if the condition is not satisfied in time
+     */
+    public <T> T until(WaitCondition kind, Function<? super WebDriver, T> condition) {
+        return until(kind, condition, kind.getTimeout());
+    }
+
+    /**
+     * Wait for a condition with an explicit timeout
+     * @param kind the kind of condition, labels the metrics
+     * @param condition returns a non-null, non-false value once satisfied
+     * @param timeout maximum time to wait
+     * @return the condition's value
+     * @throws TimeoutException if the condition is not satisfied in time
+     */
+    public <T> T until(WaitCondition kind, Function<? super WebDriver, T> condition, Duration timeout) {
+        return await(kind, condition, timeout, null);
+    }
+
+    /**
+     * @param locator the element waited for, or null for other conditions
+     */
+    private <T> T await(WaitCondition kind, Function<? super WebDriver, T> condition, Duration timeout, By locator) {
+        String callSite = WaitMetrics.callSite();
+        String pollingKey = kind.getValue() + " " + (locator != null ? locator.toString() : callSite);
+        int[] polls = {0};
+        long start = System.currentTimeMillis();
+        boolean timedOut = false;
+        try {
+            T result = null;
+            if (ObserverWait.isApplicable(kind, locator)) {
+                result = ObserverWait.await(driver, locator, kind, condition, timeout, polls);
+            }
+            if (result == null) {
+                Duration remaining = timeout.minusMillis(System.currentTimeMillis() - start);
+                result = new WebDriverWait(driver, remaining.isNegative() ? Duration.ZERO : remaining,
+                    AdaptivePolling.interval(), Clock.systemDefaultZone(),
+                    AdaptivePolling.sleeper(pollingKey, polls)).until(condition);
+            }
+            AdaptivePolling.recordSettled(pollingKey, System.currentTimeMillis() - start);
+            return result;
+        } catch (TimeoutException e) {
+            timedOut = true;
+            throw e;
+        } finally {
+            WaitMetrics.record(callSite, kind, System.currentTimeMillis() - start, polls[0] + 1, timedOut);
+        }
+    }
+
+    /**
+     * Wait for a condition, returning false instead of throwing when it is not satisfied in time
+     */
+    public boolean test(WaitCondition kind, Function<? super WebDriver, ?> condition, Duration timeout) {
+        try {
+            until(kind, condition, timeout);
+            return true;
+        } catch (TimeoutException e) {
+            return false;
+        }
+    }
+
+    public WebDriver getDriver() {
+        return driver;
+    }
+}
@@ -0,0 +1,105 @@
+package com.testautomation.core.waits;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Unit tests of the negative checks; the driver is a stub that records its calls, no browser is started.
+ */
+public class WaitEngineTest {
+
+    private final List<String> calls = Collections.synchronizedList(new ArrayList<>());
+
+    @AfterMethod(alwaysRun = true)
+    public void restoreConfiguration() {
+        System.clearProperty("timeout.implicit");
+        calls.clear();
+    }
+
+    @Test(description = "An absent element is answered from one findElements call, without waiting")
+    public void testAbsentElementReturnsAtOnce() {
+        long start = System.currentTimeMillis();
+
+        Assert.assertTrue(new WaitEngine(driver(Collections.emptyList())).gone(By.id("missing")));
+
+        Assert.assertTrue(System.currentTimeMillis() - start < 1000, "gone() should not wait");
+        Assert.assertEquals(calls, List.of("findElements"));
+    }
+
+    @Test(description = "A hidden element is answered from the first probe")
+    public void testHiddenElementReturnsAtOnce() {
+        Assert.assertTrue(new WaitEngine(driver(List.of(element(false)))).gone(By.id("hidden")));
+
+        Assert.assertEquals(calls, List.of("findElements", "isDisplayed"));
+    }
+
+    @Test(description = "With an implicit wait configured the probe runs with it switched off")
+    public void testImplicitWaitZeroedForProbe() {
+        System.setProperty("timeout.implicit", "20");
+
+        Assert.assertTrue(new WaitEngine(driver(Collections.emptyList())).gone(By.id("missing")));
+
+        Assert.assertEquals(calls, List.of("implicitlyWait PT0S", "findElements", "implicitlyWait PT20S"));
+    }
+
+    private WebDriver driver(List<WebElement> found) {
+        WebDriver.Timeouts timeouts = stub(WebDriver.Timeouts.class, (method, args) -> {
+            calls.add(method + " " + args[0]);
+            return null;
+        });
+        WebDriver.Options options = stub(WebDriver.Options.class, (method, args) -> timeouts);
+        return stub(WebDriver.class, (method, args) -> {
+            switch (method) {
+                case "manage":
+                    return options;
+                case "findElements":
+                    calls.add(method);
+                    return found;
+                default:
+                    calls.add(method);
+                    throw new UnsupportedOperationException(method);
+            }
+        });
+    }
+
+    private WebElement element(boolean displayed) {
+        return stub(WebElement.class, (method, args) -> {
+            calls.add(method);
+            if ("isDisplayed".equals(method)) {
+                return displayed;
+            }
+            throw new UnsupportedOperationException(method);
+        });
+    }
+
+    private interface Handler {
+        Object handle(String method, Object[] args);
+    }
+
+    private static <T> T stub(Class<T> type, Handler handler) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+            (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "equals":
+                        return proxy == args[0];
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    case "toString":
+                        return type.getSimpleName();
+                    default:
+                        break;
+                }
+                return handler.handle(method.getName(), args);
+            }));
+    }
+}
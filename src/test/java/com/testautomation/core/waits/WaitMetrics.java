@@ -0,0 +1,174 @@
+package com.testautomation.core.waits;
+
+import com.testautomation.core.config.ConfigReader;
+import com.testautomation.core.metrics.LatencyHistogram;
+import com.testautomation.utils.common.LoggerUtil;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Time spent waiting, per call site and condition.
+ *
+ * The call site is the first stack frame outside the wait framework (WaitEngine, BasePage,
+ * WaitUtils), e.g. "ButtonsPage.performDoubleClick:112", so the report points at the page
+ * object or test that asked for the wait. Logged and written to metrics.directory/waits.csv
+ * at suite end, ordered by total time waited.
+ *
+ * Call sites that spend most of their wait time running into timeouts are listed separately:
+ * they usually use a positive wait for a negative check and should use
+ * BasePage.waitUntilGone() or assertAbsent() instead.
+ */
+public final class WaitMetrics {
+
+    private static final int REPORTED_SITES = 15;
+    private static final Map<String, SiteStats> sites = new ConcurrentHashMap<>();
+
+    private WaitMetrics() {
+    }
+
+    /**
+     * Record one finished wait
+     * @param callSite where the wait was requested
+     * @param condition what was waited for
+     * @param millis time spent waiting
+     * @param polls how often the condition was evaluated
+     * @param timedOut whether the wait ended in a timeout
+     */
+    public static void record(String callSite, WaitCondition condition, long millis, int polls, boolean timedOut) {
+        SiteStats stats = sites.computeIfAbsent(callSite + " " + condition.getValue(),
+            key -> new SiteStats(callSite, condition));
+        stats.histogram.record(millis);
+        stats.totalMillis.addAndGet(millis);
+        stats.polls.addAndGet(polls);
+        if (timedOut) {
+            stats.timeouts.incrementAndGet();
+            stats.timedOutMillis.addAndGet(millis);
+        }
+    }
+
+    /**
+     * Find the first caller outside the wait framework
+     * @return "Class.method:line", or "unknown"
+     */
+    static String callSite() {
+        return StackWalker.getInstance().walk(frames -> frames
+            .filter(frame -> !isFrameworkFrame(frame.getClassName()))
+            .findFirst()
+            .map(frame -> frame.getClassName().substring(frame.getClassName().lastIndexOf('.') + 1)
+                + "." + frame.getMethodName() + ":" + frame.getLineNumber())
+            .orElse("unknown"));
+    }
+
+    private static boolean isFrameworkFrame(String className) {
+        return className.startsWith("com.testautomation.core.waits.")
+            || className.equals("com.testautomation.core.pages.BasePage")
+            || className.equals("com.testautomation.utils.browser.WaitUtils")
+            || className.startsWith("java.")
+            || className.startsWith("jdk.")
+            || className.startsWith("org.openqa.");
+    }
+
+    /**
+     * Call sites where timed-out waits account for more than half of the time waited
+     */
+    private static List<SiteStats> timeoutHeavy() {
+        List<SiteStats> heavy = new ArrayList<>();
+        for (SiteStats site : byTotalTime()) {
+            if (site.timedOutMillis.get() > 0 && site.timedOutMillis.get() * 2 > site.totalMillis.get()) {
+                heavy.add(site);
+            }
+        }
+        return heavy;
+    }
+
+    private static List<SiteStats> byTotalTime() {
+        List<SiteStats> sorted = new ArrayList<>(sites.values());
+        sorted.sort(Comparator.comparingLong((SiteStats stats) -> stats.totalMillis.get()).reversed());
+        return sorted;
+    }
+
+    /**
+     * Get the call sites with the most time spent waiting
+     * @return formatted string with current statistics
+     */
+    public static String getStatistics() {
+        StringBuilder stats = new StringBuilder();
+        stats.append("=== Wait Statistics ===\n");
+        long total = sites.values().stream().mapToLong(site -> site.totalMillis.get()).sum();
+        stats.append("Total Time Waiting: ").append(total).append("ms\n");
+        stats.append("Polling: ").append(ConfigReader.isAdaptivePollingEnabled() ? "adaptive" : "fixed").append("\n");
+        byTotalTime().stream().limit(REPORTED_SITES).forEach(site -> stats
+            .append(site.callSite).append(" [").append(site.condition.getValue()).append("]: ")
+            .append(site.totalMillis.get()).append("ms total, ").append(site.histogram.summary())
+            .append(", polls=").append(site.polls.get())
+            .append(", timeouts=").append(site.timeouts.get()).append("\n"));
+        List<SiteStats> timeoutHeavy = timeoutHeavy();
+        if (!timeoutHeavy.isEmpty()) {
+            stats.append("Timeout-heavy call sites (most wait time spent in timeouts):\n");
+            timeoutHeavy.forEach(site -> stats
+                .append("  ").append(site.callSite).append(" [").append(site.condition.getValue()).append("]: ")
+                .append(site.timedOutMillis.get()).append("ms of ").append(site.totalMillis.get())
+                .append("ms in ").append(site.timeouts.get()).append(" timeout(s)\n"));
+        }
+        stats.append("=======================");
+        return stats.toString();
+    }
+
+    /**
+     * Write the statistics of every call site as CSV
+     * @return the written file, or null if nothing was recorded or writing failed
+     */
+    public static Path export() {
+        if (sites.isEmpty()) {
+            return null;
+        }
+        Path file = Paths.get(ConfigReader.getMetricsDirectory(), "waits.csv");
+        try {
+            Files.createDirectories(file.getParent());
+            try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(file, StandardCharsets.UTF_8))) {
+                writer.println("call_site,condition,count,total_ms,mean_ms,p95_ms,max_ms,polls,timeouts,timed_out_ms");
+                for (SiteStats site : byTotalTime()) {
+                    writer.println(site.callSite + "," + site.condition.getValue() + ","
+                        + site.histogram.getCount() + "," + site.totalMillis.get() + ","
+                        + site.histogram.getMean() + "," + site.histogram.getPercentile(95) + ","
+                        + site.histogram.getMax() + "," + site.polls.get() + "," + site.timeouts.get() + ","
+                        + site.timedOutMillis.get());
+                }
+            }
+            LoggerUtil.info("Wait statistics written to " + file);
+            return file;
+        } catch (IOException e) {
+            LoggerUtil.error("Failed to write wait statistics", e);
+            return null;
+        }
+    }
+
+    /**
+     * Waits of one call site and condition
+     */
+    private static final class SiteStats {
+        private final String callSite;
+        private final WaitCondition condition;
+        private final LatencyHistogram histogram = new LatencyHistogram();
+        private final AtomicLong totalMillis = new AtomicLong(0);
+        private final AtomicLong timeouts = new AtomicLong(0);
+        private final AtomicLong polls = new AtomicLong(0);
+        private final AtomicLong timedOutMillis = new AtomicLong(0);
+
+        private SiteStats(String callSite, WaitCondition condition) {
+            this.callSite = callSite;
+            this.condition = condition;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.testautomation.enums;
+
+public enum BrowserMode {
+    HEADED("headed"),
+    HEADLESS("headless"),
+    HEADLESS_SHELL("headless-shell");
+
+    private final String value;
+
+    BrowserMode(String value) {
+        this.value = value;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public boolean isHeadless() {
+        return this != HEADED;
+    }
+
+    public static BrowserMode fromString(String text) {
+        for (BrowserMode browserMode : BrowserMode.values()) {
+            if (browserMode.value.equalsIgnoreCase(text)) {
+                return browserMode;
+            }
+        }
+        throw new IllegalArgumentException("No browser mode found with value: " + text);
+    }
+}
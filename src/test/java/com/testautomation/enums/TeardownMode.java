@@ -0,0 +1,25 @@
+package com.testautomation.enums;
+
+public enum TeardownMode {
+    RESET("reset"),
+    QUIT("quit");
+
+    private final String value;
+
+    TeardownMode(String value) {
+        this.value = value;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public static TeardownMode fromString(String text) {
+        for (TeardownMode teardownMode : TeardownMode.values()) {
+            if (teardownMode.value.equalsIgnoreCase(text)) {
+                return teardownMode;
+            }
+        }
+        throw new IllegalArgumentException("No teardown mode found with value: " + text);
+    }
+}
@@ -5,7 +5,6 @@ import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.interactions.Actions;
 
 /**
@@ -17,14 +16,14 @@ public class ButtonsPage extends BasePage {
         public ButtonsPage(WebDriver driver) {
         super(driver);
         this.actions = new Actions(driver);
+        enableElementCache();
     }
     
     // Actions for complex interactions
     private Actions actions;
     
     // Page title and heading locators
-    @FindBy(tagName = "h1")
-    private WebElement pageHeading;
+    private final By pageHeading = By.tagName("h1");
     
     @FindBy(tagName = "body")
     private WebElement bodyElement;
@@ -45,6 +44,11 @@ public class ButtonsPage extends BasePage {
     
 
     
+    @Override
+    protected By getKeyLocator() {
+        return doubleClickButton;
+    }
+
     /**
      * Navigate to the Buttons page
      */
@@ -94,24 +98,21 @@ public class ButtonsPage extends BasePage {
      * Perform double click on the double click button
      */
     public void performDoubleClick() {
-        WebElement element = wait.until(ExpectedConditions.elementToBeClickable(doubleClickButton));
-        actions.doubleClick(element).perform();
+        actions.doubleClick(waitForElementToBeClickable(doubleClickButton)).perform();
     }
     
     /**
      * Perform right click on the right click button
      */
     public void performRightClick() {
-        WebElement element = wait.until(ExpectedConditions.elementToBeClickable(rightClickButton));
-        actions.contextClick(element).perform();
+        actions.contextClick(waitForElementToBeClickable(rightClickButton)).perform();
     }
     
     /**
      * Perform single click on the Click Me button
      */
     public void performSingleClick() {
-        WebElement element = wait.until(ExpectedConditions.elementToBeClickable(clickMeButton));
-        element.click();
+        clickElement(clickMeButton);
     }
     
     /**
@@ -186,6 +187,16 @@ public class ButtonsPage extends BasePage {
         return isElementDisplayed(dynamicClickMessage);
     }
     
+    /**
+     * Check that no result message is shown yet, e.g. before any interaction
+     * @return true if all result messages are absent or hidden, false otherwise
+     */
+    public boolean areResultMessagesAbsent() {
+        return waitUntilGone(doubleClickMessage) &&
+               waitUntilGone(rightClickMessage) &&
+               waitUntilGone(dynamicClickMessage);
+    }
+
     /**
      * Wait for double click message to be visible
      */
@@ -236,9 +247,7 @@ public class ButtonsPage extends BasePage {
      * @return true if all buttons are displayed, false otherwise
      */
     public boolean verifyAllButtonsPresent() {
-        return isDoubleClickButtonDisplayed() && 
-               isRightClickButtonDisplayed() && 
-               isClickMeButtonDisplayed();
+        return areAllDisplayed(doubleClickButton, rightClickButton, clickMeButton);
     }
     
     /**
@@ -246,9 +255,7 @@ public class ButtonsPage extends BasePage {
      * @return true if all messages are displayed, false otherwise
      */
     public boolean verifyAllMessagesDisplayed() {
-        return isDoubleClickMessageDisplayed() && 
-               isRightClickMessageDisplayed() && 
-               isDynamicClickMessageDisplayed();
+        return areAllDisplayed(doubleClickMessage, rightClickMessage, dynamicClickMessage);
     }
     
     /**
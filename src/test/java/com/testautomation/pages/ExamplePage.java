@@ -1,6 +1,7 @@
 package com.testautomation.pages;
 
 import com.testautomation.core.pages.BasePage;
+import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
@@ -17,6 +18,11 @@ public class ExamplePage extends BasePage {
         super(driver);
     }
     
+    @Override
+    protected By getKeyLocator() {
+        return By.tagName("h1");
+    }
+
     public String getPageTitle() {
         return driver.getTitle();
     }
@@ -0,0 +1,42 @@
+package com.testautomation.processor;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Unit tests of the compile-time locator checks.
+ */
+public class PageBinderProcessorTest {
+
+    @Test(description = "Valid locators pass")
+    public void testValidLocators() {
+        Assert.assertNull(PageBinderProcessor.validate("id", "submit"));
+        Assert.assertNull(PageBinderProcessor.validate("className", " btn "));
+        Assert.assertNull(PageBinderProcessor.validate("tagName", "my-element"));
+        Assert.assertNull(PageBinderProcessor.validate("tagName", "*"));
+        Assert.assertNull(PageBinderProcessor.validate("xpath", "//div[@id='app']//button[contains(., 'Click')]"));
+        Assert.assertNull(PageBinderProcessor.validate("css", "form#login > input[name='user'], a:not(.x)"));
+    }
+
+    @Test(description = "Blank values, compound class names, bad tag names and broken XPath are rejected")
+    public void testInvalidLocators() {
+        Assert.assertEquals(PageBinderProcessor.validate("id", "  "), "id must not be blank");
+        Assert.assertTrue(PageBinderProcessor.validate("className", "btn btn-primary").contains("css = \".btn.btn-primary\""));
+        Assert.assertNotNull(PageBinderProcessor.validate("tagName", "div.item"));
+        Assert.assertNotNull(PageBinderProcessor.validate("xpath", "//div[@id='app'"));
+    }
+
+    @Test(description = "CSS selectors are checked for quotes, brackets and combinators")
+    public void testValidateCss() {
+        Assert.assertNull(PageBinderProcessor.validateCss("a[title='a ] ) \\' b']"));
+        Assert.assertNull(PageBinderProcessor.validateCss("li:nth-child(2n + 1) > a"));
+        Assert.assertNull(PageBinderProcessor.validateCss("#a\\[1\\]"));
+
+        Assert.assertTrue(PageBinderProcessor.validateCss("a[title='x]").startsWith("unclosed quote"));
+        Assert.assertTrue(PageBinderProcessor.validateCss("div[id='x'").startsWith("unclosed '['"));
+        Assert.assertTrue(PageBinderProcessor.validateCss("div:not(.a]").startsWith("unbalanced ']'"));
+        Assert.assertTrue(PageBinderProcessor.validateCss("div)").startsWith("unbalanced ')'"));
+        Assert.assertTrue(PageBinderProcessor.validateCss("div >").startsWith("dangling combinator"));
+        Assert.assertTrue(PageBinderProcessor.validateCss(", div").startsWith("dangling combinator"));
+    }
+}
@@ -2,7 +2,21 @@ package com.testautomation.tests.base;
 
 import com.testautomation.core.config.ConfigReader;
 import com.testautomation.core.driver.WebDriverManager;
+import com.testautomation.core.driver.BrowserResourceSampler;
+import com.testautomation.core.driver.DriverBinaryCache;
+import com.testautomation.core.driver.DriverCircuitBreaker;
+import com.testautomation.core.driver.DriverReaper;
+import com.testautomation.core.driver.DriverStartupMetrics;
+import com.testautomation.core.driver.LazyWebDriver;
+import com.testautomation.core.driver.NetworkBlocklist;
+import com.testautomation.core.driver.SessionAdmissionController;
+import com.testautomation.core.driver.WebDriverPool;
+import com.testautomation.core.driver.SessionResetter;
+import com.testautomation.core.pages.ElementCache;
 import com.testautomation.core.pages.PageObjectManager;
+import com.testautomation.core.waits.WaitMetrics;
+import com.testautomation.enums.BrowserType;
+import com.testautomation.enums.TeardownMode;
 import com.testautomation.utils.browser.ScreenshotUtils;
 import com.testautomation.utils.data.RandomDataGenerator;
 import com.testautomation.utils.common.LoggerUtil;
@@ -23,6 +37,7 @@ import java.time.Duration;
  * - Automatically navigates to base URL from config.properties on test setup
  * - No need to manually call driver.get() or ConfigReader.getBaseUrl() in test methods
  * - WebDriver, WebDriverWait, and Actions are automatically initialized
+ * - With driver.lazy.enabled the browser only starts when a test first uses the driver
  * - Extend this class to create your own test classes.
  */
 public class BaseTest {
@@ -38,6 +53,9 @@ public class BaseTest {
     // Control whether to auto-navigate to base URL
     private boolean autoNavigateToBaseUrl = true;
 
+    // Control whether the browser is reset and reused or quit after each test
+    private TeardownMode teardownMode = TeardownMode.fromString(ConfigReader.getDriverTeardownMode());
+
     // Variables to store generated data for testing.
     public String getRandomEmail;
     public String getRandomPassword;
@@ -70,26 +88,26 @@ public class BaseTest {
             }
 
             webDriverManager = new WebDriverManager();
+            BrowserType browserType = BrowserType.fromString(browserName);
 
             // region Initiate the WebDriver, WebDriverWait, and Actions Initialization
-            driver = webDriverManager.initiateDriver(browserName);
-            wait = new WebDriverWait(driver, Duration.ofSeconds(ConfigReader.getExplicitWait()));
-            actions = new Actions(driver);
-
-            // Auto-navigate to base URL if driver is on blank page or not yet navigated
-            // This can be overridden by subclasses using setAutoNavigateToBaseUrl(false)
-            if (shouldAutoNavigateToBaseUrl()) {
-                String currentUrl = driver.getCurrentUrl();
-                if (currentUrl.equals("about:blank") || currentUrl.isEmpty() || currentUrl.equals("data:,")) {
-                    LoggerUtil.info("Auto-navigating to base URL: " + ConfigReader.getBaseUrl());
-                    driver.get(ConfigReader.getBaseUrl());
-                }
+            if (ConfigReader.isDriverLazyEnabled()) {
+                // The browser is launched, and auto-navigation performed, on the first WebDriver call
+                WebDriverManager manager = webDriverManager;
+                String browser = browserName;
+                driver = LazyWebDriver.create(() -> manager.initiateDriver(browser),
+                    session -> navigateToBaseUrlIfBlank(session, browserType));
             } else {
-                LoggerUtil.info("Auto-navigation to base URL is disabled for this test class");
+                driver = webDriverManager.initiateDriver(browserName);
+                navigateToBaseUrlIfBlank(driver, browserType);
             }
+            wait = new WebDriverWait(driver, Duration.ofSeconds(ConfigReader.getExplicitWait()));
+            actions = new Actions(driver);
             
             // Initialize PageObjectManager for easy access to all page objects
             pages = new PageObjectManager(driver);
+            // Stopped and attached to the report by TestListener right after the test method
+            BrowserResourceSampler.getInstance().start(driver);
             
             LoggerUtil.info("Test setup completed successfully for browser: " + browserName);
         } catch (Exception e) {
@@ -98,19 +116,46 @@ public class BaseTest {
         }
     }
 
+    /**
+     * Auto-navigate to base URL if the session is on a blank page or not yet navigated.
+     * This can be overridden by subclasses using setAutoNavigateToBaseUrl(false)
+     * @param session the browser session
+     * @param browserType the browser, for the first navigation startup metric
+     */
+    private void navigateToBaseUrlIfBlank(WebDriver session, BrowserType browserType) {
+        if (shouldAutoNavigateToBaseUrl()) {
+            String currentUrl = session.getCurrentUrl();
+            if (currentUrl.equals("about:blank") || currentUrl.isEmpty() || currentUrl.equals("data:,")) {
+                LoggerUtil.info("Auto-navigating to base URL: " + ConfigReader.getBaseUrl());
+                DriverStartupMetrics.time(browserType, DriverStartupMetrics.Phase.FIRST_NAVIGATION, () -> {
+                    session.get(ConfigReader.getBaseUrl());
+                    return null;
+                });
+            }
+        } else {
+            LoggerUtil.info("Auto-navigation to base URL is disabled for this test class");
+        }
+    }
+
     @AfterMethod(alwaysRun = true)
     public void tearDown(ITestResult result) {
         try {
-            // Take screenshot on test failure
-            if (result.getStatus() == ITestResult.FAILURE) {
+            stopBrowserResourceSampling(result);
+            // Take screenshot on test failure, unless the test never started a browser
+            if (result.getStatus() == ITestResult.FAILURE && LazyWebDriver.isMaterialized(driver)) {
                 takeScreenshotOnFailure(result.getName());
             }
         } finally {
-            // Always quit the WebDriver, regardless of test result
+            // Always release the WebDriver, regardless of test result
+            // RESET returns the cleaned session to the pool, QUIT closes the browser
             if (webDriverManager != null && webDriverManager.isDriverInitialized()) {
                 try {
-                    webDriverManager.quitDriver();
-                    LoggerUtil.info("WebDriver closed successfully for test: " + result.getName());
+                    if (getTeardownMode() == TeardownMode.RESET) {
+                        webDriverManager.releaseDriver();
+                    } else {
+                        webDriverManager.quitDriver();
+                    }
+                    LoggerUtil.info("WebDriver released (" + getTeardownMode().getValue() + ") for test: " + result.getName());
                 } catch (Exception e) {
                     LoggerUtil.error("Failed to close WebDriver for test: " + result.getName(), e);
                 }
@@ -118,6 +163,23 @@ public class BaseTest {
         }
     }
 
+    /**
+     * Stop a sampling that TestListener did not stop, e.g. when the class runs without it.
+     * The usage is only logged: an Allure attachment made here would belong to the teardown fixture.
+     * @param result the test result
+     */
+    private void stopBrowserResourceSampling(ITestResult result) {
+        try {
+            BrowserResourceSampler.ResourceUsage usage = BrowserResourceSampler.getInstance().stopCurrent();
+            if (usage != null) {
+                result.setAttribute("browserResources", usage);
+                LoggerUtil.info("Browser resources for test " + result.getName() + ": " + usage.summary());
+            }
+        } catch (Exception e) {
+            LoggerUtil.error("Failed to stop browser resource sampling", e);
+        }
+    }
+
     /**
      * Take screenshot on test failure and attach to Allure report
      * @param testName the name of the failed test
@@ -161,6 +223,24 @@ public class BaseTest {
         } catch (Exception e) {
             LoggerUtil.error("Suite cleanup: Failed to close WebDriver", e);
         }
+        // Warm pooled sessions and context hosts stay up for further suites in this JVM;
+        // the shutdown hook of WebDriverManager quits them when the JVM exits
+        LoggerUtil.info(WebDriverPool.getInstance().getStatistics());
+        LoggerUtil.info(SessionResetter.getStatistics());
+        // Wait for browsers still being quit in the background
+        DriverReaper.getInstance().drain(ConfigReader.getDriverReaperDrainTimeoutSeconds());
+        LoggerUtil.info(DriverReaper.getInstance().getStatistics());
+        if (NetworkBlocklist.isEnabled()) {
+            LoggerUtil.info(NetworkBlocklist.getStatistics());
+        }
+        LoggerUtil.info(DriverStartupMetrics.getStatistics());
+        LoggerUtil.info(SessionAdmissionController.getInstance().getStatistics());
+        LoggerUtil.info(DriverCircuitBreaker.getInstance().getStatistics());
+        LoggerUtil.info(WaitMetrics.getStatistics());
+        LoggerUtil.info(ElementCache.getStatistics());
+        WaitMetrics.export();
+        LoggerUtil.info(DriverBinaryCache.getInstance().getStatistics());
+        DriverStartupMetrics.export();
     }
     
     /**
@@ -179,4 +259,22 @@ public class BaseTest {
         this.autoNavigateToBaseUrl = enabled;
         LoggerUtil.info("Auto-navigation to base URL " + (enabled ? "enabled" : "disabled"));
     }
+
+    /**
+     * Get how the browser is released after each test
+     * @return RESET to clean and reuse the session, QUIT to close the browser
+     */
+    protected TeardownMode getTeardownMode() {
+        return teardownMode;
+    }
+
+    /**
+     * Choose how the browser is released after each test in this class.
+     * Use QUIT for tests that change browser-wide state a reset cannot undo.
+     * @param mode RESET to clean and reuse the session, QUIT to close the browser
+     */
+    protected void setTeardownMode(TeardownMode mode) {
+        this.teardownMode = mode;
+        LoggerUtil.info("Teardown mode set to " + mode.getValue());
+    }
 }
@@ -126,6 +126,10 @@ public class ExampleButtons extends BaseTest {
         Assert.assertTrue(rightClickButtonPresent, "Right Click button should be displayed");
         Assert.assertTrue(clickMeButtonPresent, "Click Me button should be displayed");
         
+        // No button has been clicked yet, so no result message is shown
+        Assert.assertTrue(pages.getButtonsPage().areResultMessagesAbsent(),
+            "No result message should be displayed before any click");
+        
         // Take screenshot for verification
         if (ConfigReader.isScreenshotEnabled()) {
             String screenshotPath = ScreenshotUtils.takeScreenshot(driver, "buttons-present");
@@ -240,8 +240,11 @@ public class ExampleTest extends BaseTest {
         Assert.assertNotNull(defaultBrowser, "Default browser should not be null");
         
         // Verify timeout configuration
+        // The implicit wait ships as 0, all waiting is done by the WaitEngine
         int implicitWait = ConfigReader.getImplicitWait();
-        Assert.assertTrue(implicitWait > 0, "Implicit wait should be greater than 0");
+        Assert.assertTrue(implicitWait >= 0, "Implicit wait should not be negative");
+        int explicitWait = ConfigReader.getExplicitWait();
+        Assert.assertTrue(explicitWait > 0, "Explicit wait should be greater than 0");
         
         // Verify base URL configuration
         String baseUrl = ConfigReader.getBaseUrl();
@@ -1,11 +1,12 @@
 package com.testautomation.utils.browser;
 
+import com.testautomation.core.waits.WaitCondition;
+import com.testautomation.core.waits.WaitEngine;
 import com.testautomation.utils.common.LoggerUtil;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
 
 import java.time.Duration;
 
@@ -20,35 +21,27 @@ public class WaitUtils {
     }
     
     public static boolean waitForTitleContains(WebDriver driver, String title, int timeoutSeconds) {
-        try {
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
-            return wait.until(ExpectedConditions.titleContains(title));
-        } catch (Exception e) {
-            return false;
-        }
+        return new WaitEngine(driver).test(WaitCondition.TITLE,
+            ExpectedConditions.titleContains(title), Duration.ofSeconds(timeoutSeconds));
     }
     
     public static boolean waitForUrlContains(WebDriver driver, String url, int timeoutSeconds) {
-        try {
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
-            return wait.until(ExpectedConditions.urlContains(url));
-        } catch (Exception e) {
-            return false;
-        }
+        return new WaitEngine(driver).test(WaitCondition.URL,
+            ExpectedConditions.urlContains(url), Duration.ofSeconds(timeoutSeconds));
     }
     
     public static WebElement waitForElementPresent(WebDriver driver, By locator, int timeoutSeconds) {
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
-        return wait.until(ExpectedConditions.presenceOfElementLocated(locator));
+        return new WaitEngine(driver).until(WaitCondition.PRESENT,
+            ExpectedConditions.presenceOfElementLocated(locator), Duration.ofSeconds(timeoutSeconds));
     }
     
     public static WebElement waitForElementVisible(WebDriver driver, By locator, int timeoutSeconds) {
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
-        return wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+        return new WaitEngine(driver).until(WaitCondition.VISIBLE,
+            ExpectedConditions.visibilityOfElementLocated(locator), Duration.ofSeconds(timeoutSeconds));
     }
     
     public static WebElement waitForElementClickable(WebDriver driver, By locator, int timeoutSeconds) {
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
-        return wait.until(ExpectedConditions.elementToBeClickable(locator));
+        return new WaitEngine(driver).until(WaitCondition.CLICKABLE,
+            ExpectedConditions.elementToBeClickable(locator), Duration.ofSeconds(timeoutSeconds));
     }
 }